@@ -0,0 +1,108 @@
+package co.unruly.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Finds the getters of properties, compiling each once per class to a function and caching it alongside the class.
+ */
+final class Accessors {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<Map<String, Function<Object,Object>>> GETTERS = new ClassValue<Map<String, Function<Object,Object>>>() {
+        @Override
+        protected Map<String, Function<Object,Object>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private Accessors() {
+    }
+
+    static Function<Object,Object> getter(Class<?> type, String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("name must be the name of a property, was " + (name == null ? "null" : "empty"));
+        }
+        return GETTERS.get(type).computeIfAbsent(name, property -> compile(type, find(type, property)));
+    }
+
+    private static Method find(Class<?> type, String name) {
+        String capitalised = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Method fallback = null;
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() != 0 || method.getReturnType() == void.class || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            String methodName = method.getName();
+            if (methodName.equals("get" + capitalised) && !methodName.equals("getClass")
+                    || methodName.equals("is" + capitalised) && method.getReturnType() == boolean.class) {
+                return method;
+            }
+            if (methodName.equals(name)) {
+                fallback = method;
+            }
+        }
+        if (fallback == null) {
+            throw new IllegalArgumentException(type.getName() + " has no public getter for " + name);
+        }
+        return fallback;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object,Object> compile(Class<?> type, Method getter) {
+        try {
+            if (isPublic(type) && isPublic(getter.getDeclaringClass()) && isVisible(type)) {
+                MethodHandle handle = LOOKUP.unreflect(getter);
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle,
+                        MethodType.methodType(Object.class, type));
+                return (Function<Object,Object>) site.getTarget().invokeExact();
+            }
+            // Functions can't be generated for getters this class can't see, so invoke them through a method handle
+            getter.setAccessible(true);
+            MethodHandle handle = LOOKUP.unreflect(getter).asType(MethodType.methodType(Object.class, Object.class));
+            return value -> {
+                try {
+                    return handle.invokeExact(value);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new UndeclaredThrowableException(e);
+                }
+            };
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("can't access " + getter, e);
+        }
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        for (Class<?> enclosing = type; enclosing != null; enclosing = enclosing.getEnclosingClass()) {
+            if (!Modifier.isPublic(enclosing.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // A generated function refers to the type, so must be defined where the type can be loaded
+    private static boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, Accessors.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package co.unruly.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * A validator which samples how long each rule takes and how often it fails, and periodically reorders evaluation
+ * so that cheap rules which fail often run first. Only the evaluation order changes: rules sharing a predicate still
+ * share its evaluation, and errors are reported, and capped, just as by the validator it was created from.
+ *
+ * Reordering only saves work when the validator stops early, see {@link Validator#failFast()} and
+ * {@link Validator#firstErrors(int)}. Note that a validator which stops early may then report different failing
+ * rules than one evaluating in composed order, as it stops at whichever failures it finds first.
+ */
+public final class AdaptiveValidator<T,U> {
+    static final int DEFAULT_SAMPLE_RATE = 64;
+    static final int DEFAULT_REORDER_INTERVAL = 128;
+    private static final long DECAY_THRESHOLD = 1024;
+
+    private final Validator<T,U> validator;
+    private final Predicate<T>[] predicates;
+    // For each rule, the next rule with the same predicate or -1, or null if no predicate appears twice
+    private final int[] nextOccurrences;
+    private final int maxErrors;
+    private final int sampleRate;
+    private final int reorderInterval;
+
+    private final AtomicLongArray evaluations;
+    private final AtomicLongArray failures;
+    private final AtomicLongArray nanos;
+    private final AtomicLong samples = new AtomicLong();
+
+    // The first rule with each predicate, in the order they are evaluated
+    private volatile int[] order;
+
+    AdaptiveValidator(Validator<T,U> validator, Predicate<T>[] predicates, int[] firstOccurrences, int maxErrors, int sampleRate, int reorderInterval) {
+        this.validator = validator;
+        this.predicates = predicates;
+        this.nextOccurrences = nextOccurrences(firstOccurrences);
+        this.maxErrors = maxErrors;
+        this.sampleRate = sampleRate;
+        this.reorderInterval = reorderInterval;
+        this.evaluations = new AtomicLongArray(predicates.length);
+        this.failures = new AtomicLongArray(predicates.length);
+        this.nanos = new AtomicLongArray(predicates.length);
+        this.order = IntStream.range(0, predicates.length)
+                .filter(i -> firstOccurrences == null || firstOccurrences[i] == i)
+                .toArray();
+    }
+
+    private static int[] nextOccurrences(int[] firstOccurrences) {
+        if (firstOccurrences == null) {
+            return null;
+        }
+        int[] next = new int[firstOccurrences.length];
+        int[] last = new int[firstOccurrences.length];
+        Arrays.fill(next, -1);
+        for (int i = 0; i < firstOccurrences.length; i++) {
+            int first = firstOccurrences[i];
+            if (first != i) {
+                next[last[first]] = i;
+            }
+            last[first] = i;
+        }
+        return next;
+    }
+
+    public Validation<T,U> validate(T value) {
+        boolean sampled = ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+        int[] order = this.order;
+        int failureCount = 0;
+        long mask = 0;
+        BitSet bits = null;
+
+        for (int index : order) {
+            boolean passed;
+            if (sampled) {
+                long start = System.nanoTime();
+                passed = predicates[index].test(value);
+                nanos.addAndGet(index, System.nanoTime() - start);
+                evaluations.incrementAndGet(index);
+                if (!passed) {
+                    failures.incrementAndGet(index);
+                }
+            } else {
+                passed = predicates[index].test(value);
+            }
+
+            if (!passed) {
+                for (int rule = index; rule >= 0 && failureCount < maxErrors; rule = nextOccurrences == null ? -1 : nextOccurrences[rule]) {
+                    if (predicates.length <= Long.SIZE) {
+                        mask |= 1L << rule;
+                    } else {
+                        if (bits == null) {
+                            bits = new BitSet(predicates.length);
+                        }
+                        bits.set(rule);
+                    }
+                    failureCount++;
+                }
+                if (failureCount == maxErrors) {
+                    break;
+                }
+            }
+        }
+
+        if (sampled && samples.incrementAndGet() % reorderInterval == 0) {
+            reorder();
+        }
+        return predicates.length <= Long.SIZE ? validator.outcome(value, mask) : validator.outcome(value, bits);
+    }
+
+    /**
+     * The order in which rules are currently evaluated, as indices into the composed order.
+     */
+    int[] evaluationOrder() {
+        return order.clone();
+    }
+
+    // Cheapest expected cost per rejection first. Statistics of well sampled rules are halved so that the order
+    // follows changes in the traffic; concurrent updates lost while halving only make the estimates slightly noisier.
+    private void reorder() {
+        double[] scores = new double[predicates.length];
+        for (int i = 0; i < predicates.length; i++) {
+            long evaluated = evaluations.get(i);
+            double meanNanos = (nanos.get(i) + 1.0) / (evaluated + 1.0);
+            double failureRate = (failures.get(i) + 1.0) / (evaluated + 2.0);
+            scores[i] = meanNanos / failureRate;
+
+            if (evaluated >= DECAY_THRESHOLD) {
+                evaluations.set(i, evaluated / 2);
+                failures.set(i, failures.get(i) / 2);
+                nanos.set(i, nanos.get(i) / 2);
+            }
+        }
+
+        Integer[] newOrder = Arrays.stream(order).boxed().toArray(Integer[]::new);
+        Arrays.sort(newOrder, Comparator.comparingDouble(i -> scores[i]));
+        order = Arrays.stream(newOrder).mapToInt(Integer::intValue).toArray();
+    }
+}
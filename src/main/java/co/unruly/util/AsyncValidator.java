@@ -0,0 +1,171 @@
+package co.unruly.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * A validator whose rules may complete asynchronously, such as database or cache lookups. Asynchronous rules are
+ * all started before any result is awaited, so their latencies overlap, and rules from a {@link Validator} run
+ * inline on the calling thread. Errors are reported in the order the rules were composed, and the errors of a
+ * composed validator are capped by its cap.
+ *
+ * If an asynchronous rule completes exceptionally, so does the validation.
+ */
+public final class AsyncValidator<T,U> {
+    private final Object[] parts;
+
+    private AsyncValidator(Object[] parts) {
+        this.parts = parts;
+    }
+
+    private static final class AsyncRule<T,U> {
+        final Function<? super T, ? extends CompletionStage<Boolean>> rule;
+        final U error;
+        final long timeoutNanos;
+        final U timeoutError;
+
+        private AsyncRule(Function<? super T, ? extends CompletionStage<Boolean>> rule, U error, long timeoutNanos, U timeoutError) {
+            this.rule = Objects.requireNonNull(rule);
+            this.error = error;
+            this.timeoutNanos = timeoutNanos;
+            this.timeoutError = timeoutError;
+        }
+    }
+
+    private static final class DefaultTimeoutScheduler {
+        static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "async-validator-timeouts");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+
+    public static <T,U> AsyncValidator<T,U> from(Function<? super T, ? extends CompletionStage<Boolean>> rule, U failure) {
+        return new AsyncValidator<>(new Object[] { new AsyncRule<>(rule, failure, 0, null) });
+    }
+
+    /**
+     * A validator with a rule which fails with the timeout error if it has not completed within the timeout.
+     */
+    public static <T,U> AsyncValidator<T,U> from(Function<? super T, ? extends CompletionStage<Boolean>> rule, U failure, Duration timeout, U timeoutError) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive, was " + timeout);
+        }
+        return new AsyncValidator<>(new Object[] { new AsyncRule<>(rule, failure, timeout.toNanos(), timeoutError) });
+    }
+
+    public static <T,U> AsyncValidator<T,U> from(Validator<T,U> validator) {
+        return new AsyncValidator<>(new Object[] { Objects.requireNonNull(validator) });
+    }
+
+    public AsyncValidator<T,U> compose(AsyncValidator<T,U> other) {
+        Object[] composed = Arrays.copyOf(parts, parts.length + other.parts.length);
+        System.arraycopy(other.parts, 0, composed, parts.length, other.parts.length);
+        return new AsyncValidator<>(composed);
+    }
+
+    public AsyncValidator<T,U> compose(Validator<T,U> other) {
+        return compose(from(other));
+    }
+
+    /**
+     * Validates the value, timing out rules on a shared daemon thread.
+     */
+    public CompletionStage<Validation<T,U>> validate(T value) {
+        return validate(value, DefaultTimeoutScheduler.INSTANCE);
+    }
+
+    /**
+     * Validates the value, timing out rules on the given scheduler.
+     */
+    @SuppressWarnings("unchecked")
+    public CompletionStage<Validation<T,U>> validate(T value, ScheduledExecutorService timeouts) {
+        Object[] results = new Object[parts.length];
+        List<CompletableFuture<Boolean>> pending = new ArrayList<>(parts.length);
+
+        for (int i = 0; i < parts.length; i++) {
+            if (parts[i] instanceof AsyncRule) {
+                CompletableFuture<Boolean> result = start((AsyncRule<T,U>) parts[i], value, timeouts);
+                results[i] = result;
+                pending.add(result);
+            }
+        }
+        for (int i = 0; i < parts.length; i++) {
+            if (parts[i] instanceof Validator) {
+                results[i] = ((Validator<T,U>) parts[i]).failures(value);
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return CompletableFuture.completedFuture(collect(value, results));
+        }
+        return CompletableFuture
+                .allOf(pending.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> collect(value, results));
+    }
+
+    // Completes with whether the rule passed, or null if it timed out. A timeout completes the result on the default
+    // async pool rather than the scheduler's thread, so collecting the errors never holds up other timeouts
+    private static <T,U> CompletableFuture<Boolean> start(AsyncRule<T,U> rule, T value, ScheduledExecutorService timeouts) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        if (rule.timeoutNanos > 0) {
+            ScheduledFuture<?> timer = timeouts.schedule(() -> CompletableFuture.runAsync(() -> result.complete(null)), rule.timeoutNanos, TimeUnit.NANOSECONDS);
+            result.whenComplete((passed, e) -> timer.cancel(false));
+        }
+        try {
+            rule.rule.apply(value).whenComplete((passed, e) -> {
+                if (e != null) {
+                    result.completeExceptionally(e);
+                } else if (passed == null) {
+                    result.completeExceptionally(new NullPointerException("asynchronous rule completed with null"));
+                } else {
+                    result.complete(passed);
+                }
+            });
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    // Errors of consecutive asynchronous rules are gathered into a list, and those of validators kept as they are,
+    // so a validator's cap and count carry through
+    @SuppressWarnings("unchecked")
+    private Validation<T,U> collect(T value, Object[] results) {
+        Rope<U> failures = Rope.empty();
+        List<U> asyncFailures = null;
+        for (int i = 0; i < parts.length; i++) {
+            if (parts[i] instanceof AsyncRule) {
+                AsyncRule<T,U> rule = (AsyncRule<T,U>) parts[i];
+                Boolean passed = ((CompletableFuture<Boolean>) results[i]).join();
+                if (passed == null || !passed) {
+                    if (asyncFailures == null) {
+                        asyncFailures = new ArrayList<>();
+                    }
+                    asyncFailures.add(passed == null ? rule.timeoutError : rule.error);
+                }
+            } else if (results[i] != null) {
+                if (asyncFailures != null) {
+                    failures = failures.concat(Rope.of(asyncFailures));
+                    asyncFailures = null;
+                }
+                failures = failures.concat((Rope<U>) results[i]);
+            }
+        }
+        if (asyncFailures != null) {
+            failures = failures.concat(Rope.of(asyncFailures));
+        }
+        return failures.size() == 0 ? Validation.success(value) : Validation.fromErrors(failures);
+    }
+}
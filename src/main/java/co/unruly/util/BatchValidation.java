@@ -0,0 +1,120 @@
+package co.unruly.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of validating many values at once, holding only the errors of those that failed, keyed by their
+ * position in the input.
+ */
+public final class BatchValidation<U> {
+    private final int size;
+    private final int[] failingIndices;
+    private final Rope<U>[] errors;
+
+    BatchValidation(int size, int[] failingIndices, Rope<U>[] errors) {
+        this.size = size;
+        this.failingIndices = failingIndices;
+        this.errors = errors;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int successCount() {
+        return size - failingIndices.length;
+    }
+
+    public int failureCount() {
+        return failingIndices.length;
+    }
+
+    public boolean isSuccess() {
+        return failingIndices.length == 0;
+    }
+
+    public boolean isFailure() {
+        return !isSuccess();
+    }
+
+    /**
+     * The positions in the input of the values which failed, in ascending order.
+     */
+    public int[] failingIndices() {
+        return failingIndices.clone();
+    }
+
+    /**
+     * The errors of the value at the given position in the input, empty if it passed.
+     */
+    public List<U> getErrors(int index) {
+        int position = position(index);
+        return position < 0 ? Collections.<U>emptyList() : errors[position].toList();
+    }
+
+    /**
+     * The number of errors of the value at the given position in the input, including any beyond the validator's
+     * cap which weren't kept.
+     */
+    public long errorCount(int index) {
+        int position = position(index);
+        return position < 0 ? 0 : errors[position].count();
+    }
+
+    private int position(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " of a batch of " + size);
+        }
+        return Arrays.binarySearch(failingIndices, index);
+    }
+
+    static final class Builder<U> {
+        private int size;
+        private int failureCount;
+        private int[] failingIndices = new int[0];
+        @SuppressWarnings("unchecked")
+        private Rope<U>[] errors = new Rope[0];
+
+        void passed() {
+            size++;
+        }
+
+        void failed(int index, Rope<U> errors) {
+            if (failureCount == failingIndices.length) {
+                int capacity = Math.max(8, failureCount * 2);
+                failingIndices = Arrays.copyOf(failingIndices, capacity);
+                this.errors = Arrays.copyOf(this.errors, capacity);
+            }
+            failingIndices[failureCount] = index;
+            this.errors[failureCount] = errors;
+            failureCount++;
+            size++;
+        }
+
+        /**
+         * Appends the results of a builder for values which came after those of this one.
+         */
+        Builder<U> append(Builder<U> later) {
+            if (failureCount + later.failureCount > failingIndices.length) {
+                failingIndices = Arrays.copyOf(failingIndices, failureCount + later.failureCount);
+                errors = Arrays.copyOf(errors, failureCount + later.failureCount);
+            }
+            System.arraycopy(later.failingIndices, 0, failingIndices, failureCount, later.failureCount);
+            System.arraycopy(later.errors, 0, errors, failureCount, later.failureCount);
+            failureCount += later.failureCount;
+            size += later.size;
+            return this;
+        }
+
+        BatchValidation<U> build() {
+            return new BatchValidation<>(size, Arrays.copyOf(failingIndices, failureCount), Arrays.copyOf(errors, failureCount));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchValidation[%d of %d failed]", failingIndices.length, size);
+    }
+}
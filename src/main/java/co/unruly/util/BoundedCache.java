@@ -0,0 +1,112 @@
+package co.unruly.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded least recently used cache, optionally expiring entries some time after they were added. Entries are
+ * spread over independently locked segments so that threads looking up different keys rarely contend.
+ */
+final class BoundedCache<K,V> {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 16;
+
+    private final Segment<K,V>[] segments;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    BoundedCache(int maxSize, long ttlNanos, LongSupplier clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1, was " + maxSize);
+        }
+        if (ttlNanos < 0) {
+            throw new IllegalArgumentException("time to live must not be negative, was " + ttlNanos + "ns");
+        }
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && maxSize / (segmentCount * 2) >= MIN_SEGMENT_SIZE) {
+            segmentCount *= 2;
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int segmentSize = maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment<>(segmentSize, evictions);
+        }
+        this.ttlNanos = ttlNanos;
+        this.clock = clock;
+    }
+
+    /**
+     * The cached value for the key, loading and caching it if absent or expired. Loading happens outside any lock, so
+     * concurrent misses for the same key may each load it. A null key is cached like any other.
+     */
+    V get(K key, Function<? super K, ? extends V> loader) {
+        Segment<K,V> segment = segments[spread(Objects.hashCode(key)) & (segments.length - 1)];
+        long now = ttlNanos > 0 ? clock.getAsLong() : 0;
+
+        synchronized (segment) {
+            Timestamped<V> entry = segment.get(key);
+            if (entry != null) {
+                if (ttlNanos == 0 || now - entry.addedAt < ttlNanos) {
+                    hits.increment();
+                    return entry.value;
+                }
+                segment.remove(key);
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        V value = loader.apply(key);
+        synchronized (segment) {
+            segment.put(key, new Timestamped<>(value, now));
+        }
+        return value;
+    }
+
+    CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Timestamped<V> {
+        final V value;
+        final long addedAt;
+
+        private Timestamped(V value, long addedAt) {
+            this.value = value;
+            this.addedAt = addedAt;
+        }
+    }
+
+    private static final class Segment<K,V> extends LinkedHashMap<K, Timestamped<V>> {
+        private final int maxSize;
+        private final LongAdder evictions;
+
+        private Segment(int maxSize, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Timestamped<V>> eldest) {
+            if (size() > maxSize) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
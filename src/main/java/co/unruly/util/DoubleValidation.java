@@ -0,0 +1,150 @@
+package co.unruly.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.*;
+import java.util.stream.DoubleStream;
+
+import static java.util.Arrays.asList;
+
+/**
+ * A {@link Validation} of a double, which never boxes its value on the success path.
+ */
+public final class DoubleValidation<S> {
+    private final double value;
+    private final Rope<S> errors;
+
+    private DoubleValidation(double value, Rope<S> errors) {
+        this.value = value;
+        this.errors = errors;
+    }
+
+    public static <S> DoubleValidation<S> success(double value) {
+        return new DoubleValidation<>(value, null);
+    }
+
+    public static <S> DoubleValidation<S> failure(S error) {
+        return new DoubleValidation<>(0, Rope.of(asList(error)));
+    }
+
+    public static <S> DoubleValidation<S> failure(List<S> errors) {
+        return new DoubleValidation<>(0, Rope.of(errors));
+    }
+
+    static <S> DoubleValidation<S> fromErrors(Rope<S> errors) {
+        return new DoubleValidation<>(0, errors);
+    }
+
+    public static <S> DoubleValidation<S> from(Validation<Double,S> validation) {
+        return validation.isSuccess()
+                ? success(validation.get())
+                : new DoubleValidation<>(0, validation.errorRope());
+    }
+
+    public boolean isSuccess() {
+        return errors == null;
+    }
+
+    public boolean isFailure() {
+        return !isSuccess();
+    }
+
+    public double getAsDouble() {
+        if (isFailure()) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    public List<S> getErrors() {
+        return isSuccess() ? Collections.<S>emptyList() : errors.toList();
+    }
+
+    /**
+     * The number of errors of a failure, including any dropped by truncation.
+     */
+    public long errorCount() {
+        return isSuccess() ? 0 : errors.count();
+    }
+
+    /**
+     * Whether this is a failure which holds fewer errors than it counts.
+     */
+    public boolean isTruncated() {
+        return isFailure() && errors.isTruncated();
+    }
+
+    public double orElse(double other) {
+        return isSuccess() ? value : other;
+    }
+
+    public double orElseGet(DoubleSupplier other) {
+        return isSuccess() ? value : other.getAsDouble();
+    }
+
+    public <X extends Throwable> double orElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        if (isFailure()) {
+            throw exceptionSupplier.get();
+        }
+        return value;
+    }
+
+    public OptionalDouble toOptional() {
+        return isSuccess() ? OptionalDouble.of(value) : OptionalDouble.empty();
+    }
+
+    public DoubleStream stream() {
+        return isSuccess() ? DoubleStream.of(value) : DoubleStream.empty();
+    }
+
+    public DoubleValidation<S> map(DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return isSuccess() ? success(mapper.applyAsDouble(value)) : this;
+    }
+
+    public <U> Validation<U,S> mapToObj(DoubleFunction<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return isSuccess() ? Validation.success(mapper.apply(value)) : Validation.fromErrors(errors);
+    }
+
+    public DoubleValidation<S> flatMap(DoubleFunction<DoubleValidation<S>> mapper) {
+        Objects.requireNonNull(mapper);
+        return isSuccess() ? mapper.apply(value) : this;
+    }
+
+    public DoubleValidation<S> filter(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return isFailure() || predicate.test(value) ? this : failure(Collections.<S>emptyList());
+    }
+
+    public Validation<Double,S> boxed() {
+        return isSuccess() ? Validation.success(value) : Validation.fromErrors(errors);
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess()
+                ? String.format("DoubleValidation.success[%s]", value)
+                : String.format("DoubleValidation.failure[%s]", getErrors());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        DoubleValidation that = (DoubleValidation) o;
+
+        return isSuccess()
+                ? that.isSuccess() && Double.compare(value, that.value) == 0
+                : that.isFailure() && getErrors().equals(that.getErrors()) && errorCount() == that.errorCount();
+    }
+
+    @Override
+    public int hashCode() {
+        return isSuccess() ? Double.hashCode(value) : 31 + getErrors().hashCode();
+    }
+}
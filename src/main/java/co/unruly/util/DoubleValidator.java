@@ -0,0 +1,116 @@
+package co.unruly.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.DoublePredicate;
+
+/**
+ * A {@link Validator} of doubles, which never boxes the value being validated. It supports the same evaluation modes
+ * and error cap as {@link Validator}, and validates a value to the same errors as the equivalent boxed validator.
+ */
+public final class DoubleValidator<U> {
+    private final DoublePredicate[] predicates;
+    private final U[] errors;
+    private final int maxErrors;
+    // The most errors a validation keeps, counting any beyond
+    private final int errorCap;
+
+    private DoubleValidator(DoublePredicate[] predicates, U[] errors, int maxErrors, int errorCap) {
+        this.predicates = predicates;
+        this.errors = errors;
+        this.maxErrors = maxErrors;
+        this.errorCap = errorCap;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <U> DoubleValidator<U> from(DoublePredicate predicate, U failure) {
+        return new DoubleValidator<>(new DoublePredicate[] { predicate }, (U[]) new Object[] { failure }, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Composes the rules of this validator with those of another, keeping the evaluation mode and error cap of this
+     * validator.
+     */
+    public DoubleValidator<U> compose(DoubleValidator<U> other) {
+        DoublePredicate[] composedPredicates = Arrays.copyOf(predicates, predicates.length + other.predicates.length);
+        System.arraycopy(other.predicates, 0, composedPredicates, predicates.length, other.predicates.length);
+        U[] composedErrors = Arrays.copyOf(errors, errors.length + other.errors.length);
+        System.arraycopy(other.errors, 0, composedErrors, errors.length, other.errors.length);
+        return new DoubleValidator<>(composedPredicates, composedErrors, maxErrors, errorCap);
+    }
+
+    /**
+     * See {@link Validator#accumulateAll()}.
+     */
+    public DoubleValidator<U> accumulateAll() {
+        return new DoubleValidator<>(predicates, errors, Integer.MAX_VALUE, errorCap);
+    }
+
+    /**
+     * See {@link Validator#failFast()}.
+     */
+    public DoubleValidator<U> failFast() {
+        return firstErrors(1);
+    }
+
+    /**
+     * See {@link Validator#firstErrors(int)}.
+     */
+    public DoubleValidator<U> firstErrors(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be at least 1, was " + maxErrors);
+        }
+        return new DoubleValidator<>(predicates, errors, maxErrors, errorCap);
+    }
+
+    /**
+     * See {@link Validator#capErrors(int)}.
+     */
+    public DoubleValidator<U> capErrors(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be at least 1, was " + maxErrors);
+        }
+        return new DoubleValidator<>(predicates, errors, this.maxErrors, maxErrors);
+    }
+
+    public DoubleValidation<U> validate(double value) {
+        if (predicates.length <= Long.SIZE) {
+            long mask = mask(value);
+            return mask == 0 ? DoubleValidation.success(value) : DoubleValidation.fromErrors(Rope.masked(errors, mask).capped(errorCap));
+        }
+        BitSet bits = bits(value);
+        return bits == null ? DoubleValidation.success(value) : DoubleValidation.fromErrors(Rope.maskedOwning(errors, bits).capped(errorCap));
+    }
+
+    private long mask(double value) {
+        long mask = 0;
+        int failureCount = 0;
+        for (int i = 0; i < predicates.length; i++) {
+            if (!predicates[i].test(value)) {
+                mask |= 1L << i;
+                if (++failureCount == maxErrors) {
+                    return mask;
+                }
+            }
+        }
+        return mask;
+    }
+
+    // The set is only allocated once a rule fails, so this returns null if every rule passes
+    private BitSet bits(double value) {
+        BitSet bits = null;
+        int failureCount = 0;
+        for (int i = 0; i < predicates.length; i++) {
+            if (!predicates[i].test(value)) {
+                if (bits == null) {
+                    bits = new BitSet(predicates.length);
+                }
+                bits.set(i);
+                if (++failureCount == maxErrors) {
+                    return bits;
+                }
+            }
+        }
+        return bits;
+    }
+}
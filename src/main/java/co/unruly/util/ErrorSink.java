@@ -0,0 +1,107 @@
+package co.unruly.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * A reusable buffer of errors, owned by the caller, which validators can report errors into without allocating.
+ * Reset a sink before reusing it. A sink isn't thread safe, so keep one per thread.
+ *
+ * @see Validator#validateInto(Object, ErrorSink)
+ * @see Validation#failureFrom(ErrorSink)
+ */
+public final class ErrorSink<U> {
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private final int initialCapacity;
+    private Object[] buffer;
+    private int size;
+    private long dropped;
+
+    public ErrorSink() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ErrorSink(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity must be at least 1, was " + initialCapacity);
+        }
+        this.initialCapacity = initialCapacity;
+        this.buffer = new Object[initialCapacity];
+    }
+
+    public void accept(U error) {
+        if (buffer == null) {
+            buffer = new Object[initialCapacity];
+        } else if (size == buffer.length) {
+            buffer = Arrays.copyOf(buffer, size * 2);
+        }
+        buffer[size++] = error;
+    }
+
+    /**
+     * Counts an error beyond a validator's cap, without keeping it.
+     */
+    void drop() {
+        dropped++;
+    }
+
+    /**
+     * Empties the sink, keeping its buffer to reuse.
+     */
+    public void reset() {
+        if (buffer != null) {
+            Arrays.fill(buffer, 0, size, null);
+        }
+        size = 0;
+        dropped = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The number of errors reported, including those beyond a validator's cap which weren't kept.
+     */
+    public long errorCount() {
+        return size + dropped;
+    }
+
+    public boolean isTruncated() {
+        return dropped > 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public U get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " of " + size + " errors");
+        }
+        return (U) buffer[index];
+    }
+
+    /**
+     * Gives up the buffer, without copying, as a rope of the errors counting any dropped. The sink is left empty,
+     * with a fresh buffer allocated when it next accepts an error.
+     */
+    @SuppressWarnings("unchecked")
+    Rope<U> handOff() {
+        if (size == 0) {
+            return Rope.empty();
+        }
+        Rope<U> errors = Rope.truncated(Rope.of(Collections.unmodifiableList(Arrays.asList((U[]) buffer).subList(0, size))), size + dropped);
+        buffer = null;
+        size = 0;
+        dropped = 0;
+        return errors;
+    }
+
+    @Override
+    public String toString() {
+        return "ErrorSink" + Arrays.toString(buffer == null ? new Object[0] : Arrays.copyOf(buffer, size));
+    }
+}
@@ -0,0 +1,52 @@
+package co.unruly.util;
+
+import java.util.Objects;
+
+/**
+ * An error of one field of an object, tagged with the path to that field.
+ */
+public final class FieldError<U> {
+    private final String path;
+    private final U error;
+
+    public FieldError(String path, U error) {
+        this.path = Objects.requireNonNull(path);
+        this.error = error;
+    }
+
+    /**
+     * The path to the field, with the names of nested fields separated by dots, as in {@code address.postcode}.
+     */
+    public String path() {
+        return path;
+    }
+
+    public U error() {
+        return error;
+    }
+
+    /**
+     * This error as an error of a field of the object at the given path.
+     */
+    public FieldError<U> within(String parent) {
+        return new FieldError<>(parent + "." + path, error);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FieldError<?> that = (FieldError<?>) o;
+        return path.equals(that.path) && Objects.equals(error, that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, error);
+    }
+
+    @Override
+    public String toString() {
+        return path + ": " + error;
+    }
+}
@@ -0,0 +1,121 @@
+package co.unruly.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * A validator which records, for each rule, how often it is evaluated, how often it fails, and a histogram of how
+ * long it takes. Recording is lock free, with a {@link LongAdder} for each counter and each histogram bucket used, so
+ * an instrumented validator can be shared between many threads. Validations are otherwise just as those of the
+ * validator it was created from, sharing the evaluations of shared rules and keeping no more errors than its cap.
+ */
+public final class InstrumentedValidator<T,U> {
+    // Bucket i counts evaluations taking from 2^i up to 2^(i+1) nanoseconds, with bucket 0 also counting those under 1
+    static final int LATENCY_BUCKETS = Long.SIZE - 1;
+
+    private final Validator<T,U> validator;
+    private final Predicate<T>[] predicates;
+    private final int[] firstOccurrences;
+    private final String[] names;
+    private final int maxErrors;
+
+    private final LongAdder[] evaluations;
+    private final LongAdder[] failures;
+    // The buckets of each rule in turn, each created when first counted into, as most stay empty
+    private final AtomicReferenceArray<LongAdder> latencies;
+
+    InstrumentedValidator(Validator<T,U> validator, Predicate<T>[] predicates, int[] firstOccurrences, String[] names, int maxErrors) {
+        this.validator = validator;
+        this.predicates = predicates;
+        this.firstOccurrences = firstOccurrences;
+        this.names = names;
+        this.maxErrors = maxErrors;
+        this.evaluations = new LongAdder[predicates.length];
+        this.failures = new LongAdder[predicates.length];
+        for (int i = 0; i < predicates.length; i++) {
+            evaluations[i] = new LongAdder();
+            failures[i] = new LongAdder();
+        }
+        this.latencies = new AtomicReferenceArray<>(predicates.length * LATENCY_BUCKETS);
+    }
+
+    // Rules sharing a predicate reuse the result of its first evaluation, which is always earlier
+    public Validation<T,U> validate(T value) {
+        if (predicates.length <= Long.SIZE) {
+            long mask = 0;
+            int failureCount = 0;
+            for (int i = 0; i < predicates.length && failureCount < maxErrors; i++) {
+                boolean failed = firstOccurrences == null || firstOccurrences[i] == i
+                        ? !test(i, value)
+                        : (mask & (1L << firstOccurrences[i])) != 0;
+                if (failed) {
+                    mask |= 1L << i;
+                    failureCount++;
+                }
+            }
+            return validator.outcome(value, mask);
+        }
+        BitSet bits = null;
+        int failureCount = 0;
+        for (int i = 0; i < predicates.length && failureCount < maxErrors; i++) {
+            boolean failed = firstOccurrences == null || firstOccurrences[i] == i
+                    ? !test(i, value)
+                    : bits != null && bits.get(firstOccurrences[i]);
+            if (failed) {
+                if (bits == null) {
+                    bits = new BitSet(predicates.length);
+                }
+                bits.set(i);
+                failureCount++;
+            }
+        }
+        return validator.outcome(value, bits);
+    }
+
+    private boolean test(int rule, T value) {
+        long start = System.nanoTime();
+        boolean passed = predicates[rule].test(value);
+        long elapsed = System.nanoTime() - start;
+        evaluations[rule].increment();
+        if (!passed) {
+            failures[rule].increment();
+        }
+        latency(rule * LATENCY_BUCKETS + bucket(elapsed)).increment();
+        return passed;
+    }
+
+    private LongAdder latency(int index) {
+        LongAdder bucket = latencies.get(index);
+        if (bucket == null) {
+            latencies.compareAndSet(index, null, new LongAdder());
+            bucket = latencies.get(index);
+        }
+        return bucket;
+    }
+
+    static int bucket(long nanos) {
+        return nanos <= 1 ? 0 : Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /**
+     * The statistics recorded so far for each rule, in the order the rules were composed. Counters are read one at a
+     * time, so under load a snapshot may include part of an evaluation still in progress. A rule sharing its predicate
+     * with an earlier rule is never evaluated itself, so records nothing.
+     */
+    public List<RuleStats> snapshot() {
+        List<RuleStats> snapshot = new ArrayList<>(predicates.length);
+        for (int i = 0; i < predicates.length; i++) {
+            long[] histogram = new long[LATENCY_BUCKETS];
+            for (int bucket = 0; bucket < LATENCY_BUCKETS; bucket++) {
+                LongAdder counted = latencies.get(i * LATENCY_BUCKETS + bucket);
+                histogram[bucket] = counted == null ? 0 : counted.sum();
+            }
+            snapshot.add(new RuleStats(names[i], evaluations[i].sum(), failures[i].sum(), histogram));
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,150 @@
+package co.unruly.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.*;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+
+/**
+ * A {@link Validation} of an int, which never boxes its value on the success path.
+ */
+public final class IntValidation<S> {
+    private final int value;
+    private final Rope<S> errors;
+
+    private IntValidation(int value, Rope<S> errors) {
+        this.value = value;
+        this.errors = errors;
+    }
+
+    public static <S> IntValidation<S> success(int value) {
+        return new IntValidation<>(value, null);
+    }
+
+    public static <S> IntValidation<S> failure(S error) {
+        return new IntValidation<>(0, Rope.of(asList(error)));
+    }
+
+    public static <S> IntValidation<S> failure(List<S> errors) {
+        return new IntValidation<>(0, Rope.of(errors));
+    }
+
+    static <S> IntValidation<S> fromErrors(Rope<S> errors) {
+        return new IntValidation<>(0, errors);
+    }
+
+    public static <S> IntValidation<S> from(Validation<Integer,S> validation) {
+        return validation.isSuccess()
+                ? success(validation.get())
+                : new IntValidation<>(0, validation.errorRope());
+    }
+
+    public boolean isSuccess() {
+        return errors == null;
+    }
+
+    public boolean isFailure() {
+        return !isSuccess();
+    }
+
+    public int getAsInt() {
+        if (isFailure()) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    public List<S> getErrors() {
+        return isSuccess() ? Collections.<S>emptyList() : errors.toList();
+    }
+
+    /**
+     * The number of errors of a failure, including any dropped by truncation.
+     */
+    public long errorCount() {
+        return isSuccess() ? 0 : errors.count();
+    }
+
+    /**
+     * Whether this is a failure which holds fewer errors than it counts.
+     */
+    public boolean isTruncated() {
+        return isFailure() && errors.isTruncated();
+    }
+
+    public int orElse(int other) {
+        return isSuccess() ? value : other;
+    }
+
+    public int orElseGet(IntSupplier other) {
+        return isSuccess() ? value : other.getAsInt();
+    }
+
+    public <X extends Throwable> int orElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        if (isFailure()) {
+            throw exceptionSupplier.get();
+        }
+        return value;
+    }
+
+    public OptionalInt toOptional() {
+        return isSuccess() ? OptionalInt.of(value) : OptionalInt.empty();
+    }
+
+    public IntStream stream() {
+        return isSuccess() ? IntStream.of(value) : IntStream.empty();
+    }
+
+    public IntValidation<S> map(IntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return isSuccess() ? success(mapper.applyAsInt(value)) : this;
+    }
+
+    public <U> Validation<U,S> mapToObj(IntFunction<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return isSuccess() ? Validation.success(mapper.apply(value)) : Validation.fromErrors(errors);
+    }
+
+    public IntValidation<S> flatMap(IntFunction<IntValidation<S>> mapper) {
+        Objects.requireNonNull(mapper);
+        return isSuccess() ? mapper.apply(value) : this;
+    }
+
+    public IntValidation<S> filter(IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return isFailure() || predicate.test(value) ? this : failure(Collections.<S>emptyList());
+    }
+
+    public Validation<Integer,S> boxed() {
+        return isSuccess() ? Validation.success(value) : Validation.fromErrors(errors);
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess()
+                ? String.format("IntValidation.success[%s]", value)
+                : String.format("IntValidation.failure[%s]", getErrors());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        IntValidation that = (IntValidation) o;
+
+        return isSuccess()
+                ? that.isSuccess() && Integer.compare(value, that.value) == 0
+                : that.isFailure() && getErrors().equals(that.getErrors()) && errorCount() == that.errorCount();
+    }
+
+    @Override
+    public int hashCode() {
+        return isSuccess() ? Integer.hashCode(value) : 31 + getErrors().hashCode();
+    }
+}
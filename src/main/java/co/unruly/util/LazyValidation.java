@@ -0,0 +1,153 @@
+package co.unruly.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Validation} which isn't worked out until it is first asked for its outcome. Chained map, flatMap and
+ * filter calls are fused: the steps are run one after another on the value, so no intermediate validations are
+ * created.
+ *
+ * The outcome is worked out at most once, even when asked for from several threads, and then kept. Chains branching
+ * from the same validation share its outcome, and that of any step along the way which has already been worked out.
+ */
+public final class LazyValidation<T,S> {
+    private Supplier<? extends Validation<?,S>> source;
+    private final LazyValidation<?,S> previous;
+    private final Function<Object,Object> step;
+    private final int depth;
+    private volatile Validation<T,S> result;
+
+    private LazyValidation(Supplier<? extends Validation<?,S>> source, LazyValidation<?,S> previous, Function<Object,Object> step) {
+        this.source = source;
+        this.previous = previous;
+        this.step = step;
+        this.depth = previous == null ? 0 : previous.depth + 1;
+    }
+
+    static <T,S> LazyValidation<T,S> of(Supplier<? extends Validation<T,S>> source) {
+        return new LazyValidation<>(Objects.requireNonNull(source), null, null);
+    }
+
+    // Marks a value as having failed part way along the chain
+    private static final class Failed {
+        final Validation<?,?> validation;
+
+        private Failed(Validation<?,?> validation) {
+            this.validation = validation;
+        }
+    }
+
+    private static final Failed FILTERED_OUT = new Failed(Validation.failure(Collections.emptyList()));
+
+    @SuppressWarnings("unchecked")
+    public <U> LazyValidation<U,S> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return then(value -> {
+            U mapped = mapper.apply((T) value);
+            return mapped == null ? FILTERED_OUT : mapped;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public <U> LazyValidation<U,S> flatMap(Function<? super T, ? extends Validation<U,S>> mapper) {
+        Objects.requireNonNull(mapper);
+        return then(value -> {
+            Validation<U,S> next = mapper.apply((T) value);
+            return next.isSuccess() ? next.get() : new Failed(next);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public LazyValidation<T,S> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return then(value -> predicate.test((T) value) ? value : FILTERED_OUT);
+    }
+
+    private <U> LazyValidation<U,S> then(Function<Object,Object> step) {
+        return new LazyValidation<>(null, this, step);
+    }
+
+    /**
+     * Works out the outcome, if it hasn't been already.
+     */
+    public Validation<T,S> toValidation() {
+        Validation<T,S> evaluated = result;
+        if (evaluated == null) {
+            synchronized (this) {
+                evaluated = result;
+                if (evaluated == null) {
+                    evaluated = evaluate();
+                    result = evaluated;
+                    source = null;
+                }
+            }
+        }
+        return evaluated;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Validation<T,S> evaluate() {
+        if (previous == null) {
+            return (Validation<T,S>) source.get();
+        }
+        LazyValidation<?,S> start = previous;
+        while (start.previous != null && start.result == null) {
+            start = start.previous;
+        }
+        Function<Object,Object>[] steps = new Function[depth - start.depth];
+        LazyValidation<?,S> node = this;
+        for (int i = steps.length - 1; i >= 0; i--) {
+            steps[i] = node.step;
+            node = node.previous;
+        }
+
+        Validation<?,S> base = start.toValidation();
+        if (base.isFailure()) {
+            return (Validation<T,S>) base;
+        }
+        Object value = base.get();
+        for (Function<Object,Object> step : steps) {
+            value = step.apply(value);
+            if (value instanceof Failed) {
+                return (Validation<T,S>) ((Failed) value).validation;
+            }
+        }
+        return Validation.success((T) value);
+    }
+
+    public boolean isSuccess() {
+        return toValidation().isSuccess();
+    }
+
+    public boolean isFailure() {
+        return toValidation().isFailure();
+    }
+
+    public T get() {
+        return toValidation().get();
+    }
+
+    public List<S> getErrors() {
+        return toValidation().getErrors();
+    }
+
+    public T orElse(T other) {
+        return toValidation().orElse(other);
+    }
+
+    public Optional<T> toOptional() {
+        return toValidation().toOptional();
+    }
+
+    @Override
+    public String toString() {
+        Validation<T,S> evaluated = result;
+        return evaluated == null ? "LazyValidation[not yet evaluated]" : "Lazy" + evaluated;
+    }
+}
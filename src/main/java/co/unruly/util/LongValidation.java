@@ -0,0 +1,150 @@
+package co.unruly.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.*;
+import java.util.stream.LongStream;
+
+import static java.util.Arrays.asList;
+
+/**
+ * A {@link Validation} of a long, which never boxes its value on the success path.
+ */
+public final class LongValidation<S> {
+    private final long value;
+    private final Rope<S> errors;
+
+    private LongValidation(long value, Rope<S> errors) {
+        this.value = value;
+        this.errors = errors;
+    }
+
+    public static <S> LongValidation<S> success(long value) {
+        return new LongValidation<>(value, null);
+    }
+
+    public static <S> LongValidation<S> failure(S error) {
+        return new LongValidation<>(0, Rope.of(asList(error)));
+    }
+
+    public static <S> LongValidation<S> failure(List<S> errors) {
+        return new LongValidation<>(0, Rope.of(errors));
+    }
+
+    static <S> LongValidation<S> fromErrors(Rope<S> errors) {
+        return new LongValidation<>(0, errors);
+    }
+
+    public static <S> LongValidation<S> from(Validation<Long,S> validation) {
+        return validation.isSuccess()
+                ? success(validation.get())
+                : new LongValidation<>(0, validation.errorRope());
+    }
+
+    public boolean isSuccess() {
+        return errors == null;
+    }
+
+    public boolean isFailure() {
+        return !isSuccess();
+    }
+
+    public long getAsLong() {
+        if (isFailure()) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    public List<S> getErrors() {
+        return isSuccess() ? Collections.<S>emptyList() : errors.toList();
+    }
+
+    /**
+     * The number of errors of a failure, including any dropped by truncation.
+     */
+    public long errorCount() {
+        return isSuccess() ? 0 : errors.count();
+    }
+
+    /**
+     * Whether this is a failure which holds fewer errors than it counts.
+     */
+    public boolean isTruncated() {
+        return isFailure() && errors.isTruncated();
+    }
+
+    public long orElse(long other) {
+        return isSuccess() ? value : other;
+    }
+
+    public long orElseGet(LongSupplier other) {
+        return isSuccess() ? value : other.getAsLong();
+    }
+
+    public <X extends Throwable> long orElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        if (isFailure()) {
+            throw exceptionSupplier.get();
+        }
+        return value;
+    }
+
+    public OptionalLong toOptional() {
+        return isSuccess() ? OptionalLong.of(value) : OptionalLong.empty();
+    }
+
+    public LongStream stream() {
+        return isSuccess() ? LongStream.of(value) : LongStream.empty();
+    }
+
+    public LongValidation<S> map(LongUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return isSuccess() ? success(mapper.applyAsLong(value)) : this;
+    }
+
+    public <U> Validation<U,S> mapToObj(LongFunction<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return isSuccess() ? Validation.success(mapper.apply(value)) : Validation.fromErrors(errors);
+    }
+
+    public LongValidation<S> flatMap(LongFunction<LongValidation<S>> mapper) {
+        Objects.requireNonNull(mapper);
+        return isSuccess() ? mapper.apply(value) : this;
+    }
+
+    public LongValidation<S> filter(LongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return isFailure() || predicate.test(value) ? this : failure(Collections.<S>emptyList());
+    }
+
+    public Validation<Long,S> boxed() {
+        return isSuccess() ? Validation.success(value) : Validation.fromErrors(errors);
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess()
+                ? String.format("LongValidation.success[%s]", value)
+                : String.format("LongValidation.failure[%s]", getErrors());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        LongValidation that = (LongValidation) o;
+
+        return isSuccess()
+                ? that.isSuccess() && Long.compare(value, that.value) == 0
+                : that.isFailure() && getErrors().equals(that.getErrors()) && errorCount() == that.errorCount();
+    }
+
+    @Override
+    public int hashCode() {
+        return isSuccess() ? Long.hashCode(value) : 31 + getErrors().hashCode();
+    }
+}
@@ -0,0 +1,116 @@
+package co.unruly.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.LongPredicate;
+
+/**
+ * A {@link Validator} of longs, which never boxes the value being validated. It supports the same evaluation modes
+ * and error cap as {@link Validator}, and validates a value to the same errors as the equivalent boxed validator.
+ */
+public final class LongValidator<U> {
+    private final LongPredicate[] predicates;
+    private final U[] errors;
+    private final int maxErrors;
+    // The most errors a validation keeps, counting any beyond
+    private final int errorCap;
+
+    private LongValidator(LongPredicate[] predicates, U[] errors, int maxErrors, int errorCap) {
+        this.predicates = predicates;
+        this.errors = errors;
+        this.maxErrors = maxErrors;
+        this.errorCap = errorCap;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <U> LongValidator<U> from(LongPredicate predicate, U failure) {
+        return new LongValidator<>(new LongPredicate[] { predicate }, (U[]) new Object[] { failure }, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Composes the rules of this validator with those of another, keeping the evaluation mode and error cap of this
+     * validator.
+     */
+    public LongValidator<U> compose(LongValidator<U> other) {
+        LongPredicate[] composedPredicates = Arrays.copyOf(predicates, predicates.length + other.predicates.length);
+        System.arraycopy(other.predicates, 0, composedPredicates, predicates.length, other.predicates.length);
+        U[] composedErrors = Arrays.copyOf(errors, errors.length + other.errors.length);
+        System.arraycopy(other.errors, 0, composedErrors, errors.length, other.errors.length);
+        return new LongValidator<>(composedPredicates, composedErrors, maxErrors, errorCap);
+    }
+
+    /**
+     * See {@link Validator#accumulateAll()}.
+     */
+    public LongValidator<U> accumulateAll() {
+        return new LongValidator<>(predicates, errors, Integer.MAX_VALUE, errorCap);
+    }
+
+    /**
+     * See {@link Validator#failFast()}.
+     */
+    public LongValidator<U> failFast() {
+        return firstErrors(1);
+    }
+
+    /**
+     * See {@link Validator#firstErrors(int)}.
+     */
+    public LongValidator<U> firstErrors(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be at least 1, was " + maxErrors);
+        }
+        return new LongValidator<>(predicates, errors, maxErrors, errorCap);
+    }
+
+    /**
+     * See {@link Validator#capErrors(int)}.
+     */
+    public LongValidator<U> capErrors(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be at least 1, was " + maxErrors);
+        }
+        return new LongValidator<>(predicates, errors, this.maxErrors, maxErrors);
+    }
+
+    public LongValidation<U> validate(long value) {
+        if (predicates.length <= Long.SIZE) {
+            long mask = mask(value);
+            return mask == 0 ? LongValidation.success(value) : LongValidation.fromErrors(Rope.masked(errors, mask).capped(errorCap));
+        }
+        BitSet bits = bits(value);
+        return bits == null ? LongValidation.success(value) : LongValidation.fromErrors(Rope.maskedOwning(errors, bits).capped(errorCap));
+    }
+
+    private long mask(long value) {
+        long mask = 0;
+        int failureCount = 0;
+        for (int i = 0; i < predicates.length; i++) {
+            if (!predicates[i].test(value)) {
+                mask |= 1L << i;
+                if (++failureCount == maxErrors) {
+                    return mask;
+                }
+            }
+        }
+        return mask;
+    }
+
+    // The set is only allocated once a rule fails, so this returns null if every rule passes
+    private BitSet bits(long value) {
+        BitSet bits = null;
+        int failureCount = 0;
+        for (int i = 0; i < predicates.length; i++) {
+            if (!predicates[i].test(value)) {
+                if (bits == null) {
+                    bits = new BitSet(predicates.length);
+                }
+                bits.set(i);
+                if (++failureCount == maxErrors) {
+                    return bits;
+                }
+            }
+        }
+        return bits;
+    }
+}
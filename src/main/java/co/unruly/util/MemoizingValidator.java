@@ -0,0 +1,28 @@
+package co.unruly.util;
+
+import java.util.function.Function;
+
+/**
+ * A validator which caches the validation of each value it sees, so that validating an equal value again costs a
+ * lookup rather than running every rule. Values must have consistent equals and hashCode methods, and the rules
+ * must give the same result for equal values.
+ */
+public final class MemoizingValidator<T,U> {
+    private final Validator<T,U> validator;
+    private final BoundedCache<T, Validation<T,U>> cache;
+    private final Function<T, Validation<T,U>> validate;
+
+    MemoizingValidator(Validator<T,U> validator, BoundedCache<T, Validation<T,U>> cache) {
+        this.validator = validator;
+        this.cache = cache;
+        this.validate = validator::validate;
+    }
+
+    public Validation<T,U> validate(T value) {
+        return cache.get(value, validate);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
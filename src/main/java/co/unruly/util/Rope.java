@@ -0,0 +1,270 @@
+package co.unruly.util;
+
+import java.util.*;
+
+/**
+ * An immutable sequence with constant time concatenation, only flattened into a list when it is read.
+ *
+ * A rope may be truncated, holding only the first of its elements but counting all of them.
+ */
+abstract class Rope<E> {
+
+    private static final Rope<?> EMPTY = new Leaf<>(Collections.emptyList());
+
+    @SuppressWarnings("unchecked")
+    static <E> Rope<E> empty() {
+        return (Rope<E>) EMPTY;
+    }
+
+    static <E> Rope<E> of(List<E> elements) {
+        return elements.isEmpty() ? empty() : new Leaf<>(elements);
+    }
+
+    /**
+     * The elements at the positions of the set bits of the mask, looked up when first read.
+     */
+    static <E> Rope<E> masked(E[] elements, long mask) {
+        return mask == 0 ? empty() : new Masked<>(elements, mask, null, Long.bitCount(mask));
+    }
+
+    static <E> Rope<E> masked(E[] elements, BitSet bits) {
+        return maskedOwning(elements, (BitSet) bits.clone());
+    }
+
+    /**
+     * Like {@link #masked(Object[], BitSet)}, but keeping the set itself, so the caller mustn't change it afterwards.
+     */
+    static <E> Rope<E> maskedOwning(E[] elements, BitSet bits) {
+        return bits.isEmpty() ? empty() : new Masked<>(elements, 0, bits, bits.cardinality());
+    }
+
+    /**
+     * The held elements, counting the given number of elements in all.
+     */
+    static <E> Rope<E> truncated(Rope<E> held, long count) {
+        return count == held.size() ? held : new Truncated<>(held, count);
+    }
+
+    /**
+     * The number of elements held.
+     */
+    abstract int size();
+
+    abstract List<E> toList();
+
+    /**
+     * The number of elements, including any dropped by truncation.
+     */
+    long count() {
+        return size();
+    }
+
+    boolean isTruncated() {
+        return false;
+    }
+
+    /**
+     * This rope, holding no more than the given number of elements.
+     */
+    Rope<E> capped(int maxSize) {
+        if (size() <= maxSize) {
+            return this;
+        }
+        return new Truncated<>(Rope.of(Collections.unmodifiableList(new ArrayList<>(toList().subList(0, maxSize)))), count());
+    }
+
+    /**
+     * Concatenates the ropes, holding no more than the given number of elements. Once full, concatenating further
+     * ropes only adds to the count, so folding many ropes together takes bounded memory.
+     */
+    Rope<E> concat(Rope<E> that, int maxSize) {
+        if ((long) size() + that.size() <= maxSize) {
+            return concat(that);
+        }
+        long count = count() + that.count();
+        Rope<E> held = size() >= maxSize ? capped(maxSize) : concat(that.capped(maxSize - size()));
+        return new Truncated<>(held instanceof Truncated ? ((Truncated<E>) held).held : held, count);
+    }
+
+    Rope<E> concat(Rope<E> that) {
+        if (that.size() == 0) {
+            return this;
+        }
+        if (this.size() == 0) {
+            return that;
+        }
+        return new Concat<>(this, that);
+    }
+
+    private static final class Leaf<E> extends Rope<E> {
+        private final List<E> elements;
+
+        private Leaf(List<E> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        int size() {
+            return elements.size();
+        }
+
+        @Override
+        List<E> toList() {
+            return elements;
+        }
+    }
+
+    private static final class Masked<E> extends Rope<E> {
+        private final E[] elements;
+        private final long mask;
+        private final BitSet bits;
+        private final int size;
+        private volatile List<E> materialized;
+
+        private Masked(E[] elements, long mask, BitSet bits, int size) {
+            this.elements = elements;
+            this.mask = mask;
+            this.bits = bits;
+            this.size = size;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        List<E> toList() {
+            List<E> result = materialized;
+            if (result == null) {
+                result = Collections.unmodifiableList(materialize());
+                materialized = result;
+            }
+            return result;
+        }
+
+        private List<E> materialize() {
+            List<E> result = new ArrayList<>(size);
+            if (bits == null) {
+                for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+                    result.add(elements[Long.numberOfTrailingZeros(remaining)]);
+                }
+            } else {
+                for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+                    result.add(elements[i]);
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class Truncated<E> extends Rope<E> {
+        private final Rope<E> held;
+        private final long count;
+
+        private Truncated(Rope<E> held, long count) {
+            this.held = held;
+            this.count = count;
+        }
+
+        @Override
+        int size() {
+            return held.size();
+        }
+
+        @Override
+        List<E> toList() {
+            return held.toList();
+        }
+
+        @Override
+        long count() {
+            return count;
+        }
+
+        @Override
+        boolean isTruncated() {
+            return true;
+        }
+    }
+
+    private static final class Concat<E> extends Rope<E> {
+        private final int size;
+        private final boolean truncated;
+        private final Rope<E> left;
+        private final Rope<E> right;
+        private volatile List<E> flattened;
+
+        private Concat(Rope<E> left, Rope<E> right) {
+            this.size = left.size() + right.size();
+            this.truncated = left.isTruncated() || right.isTruncated();
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        // only truncated ropes need walking, with an explicit stack for the same reason as flattening
+        @Override
+        long count() {
+            if (!truncated) {
+                return size;
+            }
+            long count = 0;
+            Deque<Rope<E>> pending = new ArrayDeque<>();
+            pending.push(this);
+            while (!pending.isEmpty()) {
+                Rope<E> next = pending.pop();
+                if (next instanceof Concat && ((Concat<E>) next).truncated) {
+                    pending.push(((Concat<E>) next).right);
+                    pending.push(((Concat<E>) next).left);
+                } else {
+                    count += next.count();
+                }
+            }
+            return count;
+        }
+
+        @Override
+        List<E> toList() {
+            List<E> result = flattened;
+            if (result == null) {
+                result = Collections.unmodifiableList(flatten());
+                flattened = result;
+            }
+            return result;
+        }
+
+        // walks the tree with an explicit stack, as ropes built by folding are as deep as they are long
+        private List<E> flatten() {
+            List<E> result = new ArrayList<>(size);
+            Deque<Rope<E>> pending = new ArrayDeque<>();
+            pending.push(right);
+            pending.push(left);
+            while (!pending.isEmpty()) {
+                Rope<E> next = pending.pop();
+                if (next instanceof Concat) {
+                    Concat<E> concat = (Concat<E>) next;
+                    List<E> alreadyFlattened = concat.flattened;
+                    if (alreadyFlattened != null) {
+                        result.addAll(alreadyFlattened);
+                    } else {
+                        pending.push(concat.right);
+                        pending.push(concat.left);
+                    }
+                } else {
+                    result.addAll(next.toList());
+                }
+            }
+            return result;
+        }
+    }
+}
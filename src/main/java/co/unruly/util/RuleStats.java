@@ -0,0 +1,75 @@
+package co.unruly.util;
+
+/**
+ * A snapshot of how an instrumented validator's rule has performed.
+ */
+public final class RuleStats {
+    private final String name;
+    private final long evaluationCount;
+    private final long failureCount;
+    private final long[] latencyHistogram;
+
+    RuleStats(String name, long evaluationCount, long failureCount, long[] latencyHistogram) {
+        this.name = name;
+        this.evaluationCount = evaluationCount;
+        this.failureCount = failureCount;
+        this.latencyHistogram = latencyHistogram;
+    }
+
+    /**
+     * The name the rule was given, or its error if it wasn't given one.
+     */
+    public String name() {
+        return name;
+    }
+
+    public long evaluationCount() {
+        return evaluationCount;
+    }
+
+    public long failureCount() {
+        return failureCount;
+    }
+
+    /**
+     * The proportion of evaluations which failed, or 0 if there have been none.
+     */
+    public double failureRate() {
+        return evaluationCount == 0 ? 0.0 : (double) failureCount / evaluationCount;
+    }
+
+    /**
+     * The number of evaluations by how long they took, where element {@code i} counts those taking at least
+     * 2<sup>i</sup> but less than 2<sup>i+1</sup> nanoseconds. Element 0 also counts those taking under a nanosecond.
+     */
+    public long[] latencyHistogram() {
+        return latencyHistogram.clone();
+    }
+
+    /**
+     * An upper bound, in nanoseconds, on how long the given proportion of evaluations took, or 0 if there have been none.
+     */
+    public long latencyPercentileNanos(double proportion) {
+        if (proportion < 0 || proportion > 1) {
+            throw new IllegalArgumentException("proportion must be between 0 and 1, was " + proportion);
+        }
+        long total = 0;
+        for (long count : latencyHistogram) {
+            total += count;
+        }
+        long wanted = (long) Math.ceil(proportion * total);
+        long seen = 0;
+        for (int bucket = 0; bucket < latencyHistogram.length; bucket++) {
+            seen += latencyHistogram[bucket];
+            if (seen >= wanted && seen > 0) {
+                return bucket == latencyHistogram.length - 1 ? Long.MAX_VALUE : (1L << (bucket + 1)) - 1;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RuleStats[%s: evaluations=%d, failures=%d]", name, evaluationCount, failureCount);
+    }
+}
@@ -5,43 +5,97 @@ import co.unruly.util.function.ExceptionalPredicate;
 import co.unruly.util.function.ExceptionalSupplier;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.*;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 
 public final class Validation<T,S> {
-    private final Optional<T> value;
-    private final List<S> errors;
+    private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
 
+    // Either the value of a success, or the errors of a failure. Rope is package-private, so callers can't make one a value.
+    private final Object state;
 
-    private Validation(T value, List<S> errors) {
-        this.value = Optional.ofNullable(value);
-        this.errors = errors;
+
+    private Validation(Object state) {
+        this.state = state;
     }
 
     public static <U,V> Validation<U,V> success(U value) {
-        return new Validation<>(Objects.requireNonNull(value), Collections.<V>emptyList());
+        return new Validation<>(Objects.requireNonNull(value));
     }
 
     public static <U,V> Validation<U,V> failure(V error) {
-        return new Validation<>(null, asList(error));
+        return new Validation<>(Rope.of(asList(error)));
     }
 
     public static <U,V> Validation<U,V> failure(List<V> error) {
-        return new Validation<>(null, error);
+        return new Validation<>(Rope.of(error));
+    }
+
+    /**
+     * A failure with the errors in the sink, taking over its buffer rather than copying it, and counting any it
+     * dropped. The sink is left empty.
+     */
+    public static <U,V> Validation<U,V> failureFrom(ErrorSink<V> sink) {
+        return new Validation<>(sink.handOff());
+    }
+
+    static <U,V> Validation<U,V> fromErrors(Rope<V> errors) {
+        return new Validation<>(errors);
     }
 
     @SuppressWarnings("unchecked")
     public static <U, V extends Exception> Validation<U,V> tryTo(ExceptionalSupplier<U,V> f) {
+        Object event = ValidationEvents.beginTry();
         try {
-            return Validation.<U,V>success(f.get());
+            Validation<U,V> success = Validation.success(f.get());
+            ValidationEvents.endTry(event, "tryTo", null);
+            return success;
         } catch (Exception e) {
+            ValidationEvents.endTry(event, "tryTo", e);
             return Validation.<U,V>failure((V) e);
         }
     }
 
+    /**
+     * Like {@link #tryTo(ExceptionalSupplier)}, but turning any exception thrown into an error with the given function,
+     * such as {@link #stackless()} or a mapping to an error code.
+     */
+    public static <U,E> Validation<U,E> tryTo(ExceptionalSupplier<U, ? extends Exception> f, Function<? super Exception, ? extends E> onException) {
+        Objects.requireNonNull(onException);
+        Object event = ValidationEvents.beginTry();
+        try {
+            Validation<U,E> success = Validation.success(f.get());
+            ValidationEvents.endTry(event, "tryTo", null);
+            return success;
+        } catch (Exception e) {
+            ValidationEvents.endTry(event, "tryTo", e);
+            return Validation.<U,E>failure(onException.apply(e));
+        }
+    }
+
+    /**
+     * Strips the stack trace of exceptions kept as errors, so failures don't retain one per exception.
+     */
+    public static <X extends Exception> Function<X,X> stackless() {
+        return e -> {
+            e.setStackTrace(NO_STACK_TRACE);
+            return e;
+        };
+    }
+
+    /**
+     * A validation which isn't worked out until it is first asked for its outcome.
+     */
+    public static <U,V> LazyValidation<U,V> lazy(Supplier<? extends Validation<U,V>> supplier) {
+        return LazyValidation.of(supplier);
+    }
+
     public static <U> Validation<U, NoSuchElementException> from(Optional<U> opt) {
         Validation<U, NoSuchElementException> failure = (failure(new NoSuchElementException()));
         return opt.map(Validation::<U, NoSuchElementException>success).orElse(failure);
@@ -49,105 +103,212 @@ public final class Validation<T,S> {
 
 
     public boolean isSuccess() {
-        return value.isPresent();
+        return !(state instanceof Rope);
     }
 
     public boolean isFailure() {
         return !isSuccess();
     }
 
+    @SuppressWarnings("unchecked")
     public T get() {
-        return value.get();
+        if (isFailure()) {
+            throw new NoSuchElementException("No value present");
+        }
+        return (T) state;
     }
 
+    /**
+     * The errors of a failure, which may not be all of them if it has been truncated.
+     * @see #capErrors(int)
+     */
     public List<S> getErrors() {
-        return errors;
+        return isSuccess() ? Collections.<S>emptyList() : errorRope().toList();
+    }
+
+    /**
+     * The number of errors of a failure, including any dropped by truncation.
+     */
+    public long errorCount() {
+        return isSuccess() ? 0 : errorRope().count();
+    }
+
+    /**
+     * Whether this is a failure which holds fewer errors than it counts.
+     */
+    public boolean isTruncated() {
+        return isFailure() && errorRope().isTruncated();
+    }
+
+    /**
+     * This validation, holding no more than the given number of errors. Errors beyond those are dropped, but still
+     * counted by {@link #errorCount()}.
+     */
+    public Validation<T,S> capErrors(int maxErrors) {
+        requireAtLeastOne(maxErrors);
+        return isSuccess() || errorRope().size() <= maxErrors ? this : new Validation<>(errorRope().capped(maxErrors));
+    }
+
+    private static void requireAtLeastOne(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be at least 1, was " + maxErrors);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    Rope<S> errorRope() {
+        return isSuccess() ? Rope.<S>empty() : (Rope<S>) state;
     }
 
     public T orElse(T other) {
-        return value.orElse(other);
+        return isSuccess() ? get() : other;
 
     }
 
     public <X extends Throwable> T orElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
-        return value.orElseThrow(exceptionSupplier);
+        if (isFailure()) {
+            throw exceptionSupplier.get();
+        }
+        return get();
     }
 
     public T orElseGet(Supplier<? extends T> other) {
-        return value.orElseGet(other);
+        return isSuccess() ? get() : other.get();
     }
 
     public Optional<T> toOptional() {
-        return value;
+        return isSuccess() ? Optional.of(get()) : Optional.<T>empty();
     }
 
     public Stream<T> stream() {
         if(isSuccess()) {
-            return Stream.of(value.get());
+            return Stream.of(get());
         } else {
             return Stream.<T>empty();
         }
     }
 
+    /**
+     * A lazy validation starting from this one, so that the map, flatMap and filter calls chained after it are fused
+     * and only applied when its outcome is first asked for.
+     */
+    public LazyValidation<T,S> deferred() {
+        return LazyValidation.of(() -> this);
+    }
+
+    // A failure has no value, so can stand in for a failure of any value type
+    @SuppressWarnings("unchecked")
+    private <U> Validation<U,S> asFailure() {
+        return (Validation<U,S>) this;
+    }
+
+    @SuppressWarnings("unchecked")
     public <U> Validation<U, ?> tryMap(ExceptionalFunction<? super T, ? extends U, ? extends Exception> mapper) {
+        return ((Validation<T,Object>) this).tryMap(mapper, Function.identity());
+    }
+
+    /**
+     * Like {@link #tryMap(ExceptionalFunction)}, but turning any exception thrown into an error with the given function.
+     */
+    public <U> Validation<U, S> tryMap(ExceptionalFunction<? super T, ? extends U, ? extends Exception> mapper, Function<? super Exception, ? extends S> onException) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(onException);
+        if(isFailure()) {
+            return asFailure();
+        }
+        U mapped;
+        Object event = ValidationEvents.beginTry();
         try {
-            return map((a) -> {
-                try {
-                    return mapper.apply(a);
-                } catch (Exception e) {
-                    throw new MapException(e);
-                }
-            });
-        } catch (MapException e) {
-            return failure(e.getCause());
+            mapped = mapper.apply(get());
+        } catch (Exception e) {
+            ValidationEvents.endTry(event, "tryMap", e);
+            return failure(onException.apply(e));
         }
+        ValidationEvents.endTry(event, "tryMap", null);
+        return new Validation<>(mapped == null ? Rope.<S>empty() : mapped);
     }
 
     public <U> Validation<U, S> map(Function<? super T, ? extends U> mapper) {
         Objects.requireNonNull(mapper);
         if(isFailure()) {
-            return new Validation<>(null, errors);
+            return asFailure();
         } else {
-            U mapped = mapper.apply(value.get());
-            return new Validation<>(mapped,null);
+            U mapped = mapper.apply(get());
+            return new Validation<>(mapped == null ? Rope.<S>empty() : mapped);
         }
     }
 
     public <U> Validation<U, ?> tryFlatMap(ExceptionalFunction<? super T, ? extends Validation<U, S>, ? extends Exception> mapper) {
+        Objects.requireNonNull(mapper);
+        if(isFailure()) {
+            return asFailure();
+        }
+        Validation<U,S> next;
+        Object event = ValidationEvents.beginTry();
         try {
-            return flatMap((a) -> {
-                try {
-                    return mapper.apply(a);
-                } catch (Exception e) {
-                    throw new MapException(e);
-                }
-            });
-        } catch (MapException e) {
-            return failure(e.getCause());
+            next = mapper.apply(get());
+        } catch (Exception e) {
+            ValidationEvents.endTry(event, "tryFlatMap", e);
+            return failure(e);
         }
+        ValidationEvents.endTry(event, "tryFlatMap", null);
+        return next;
+    }
+
+    /**
+     * Like {@link #tryFlatMap(ExceptionalFunction)}, but turning any exception thrown into an error with the given function.
+     */
+    public <U> Validation<U, S> tryFlatMap(ExceptionalFunction<? super T, ? extends Validation<U, S>, ? extends Exception> mapper, Function<? super Exception, ? extends S> onException) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(onException);
+        if(isFailure()) {
+            return asFailure();
+        }
+        Validation<U,S> next;
+        Object event = ValidationEvents.beginTry();
+        try {
+            next = mapper.apply(get());
+        } catch (Exception e) {
+            ValidationEvents.endTry(event, "tryFlatMap", e);
+            return failure(onException.apply(e));
+        }
+        ValidationEvents.endTry(event, "tryFlatMap", null);
+        return next;
     }
 
     public <U> Validation<U, S> flatMap(Function<? super T, ? extends Validation<U, S>> mapper) {
         Objects.requireNonNull(mapper);
         if(isFailure()) {
-            return new Validation<>(null, errors);
+            return asFailure();
         } else {
-            return  mapper.apply(value.get());
+            return  mapper.apply(get());
         }
     }
 
+    @SuppressWarnings("unchecked")
     public Validation<T, ?> tryFilter(ExceptionalPredicate<? super T, ? extends Exception> predicate) {
+        return ((Validation<T,Object>) this).tryFilter(predicate, Function.identity());
+    }
+
+    /**
+     * Like {@link #tryFilter(ExceptionalPredicate)}, but turning any exception thrown into an error with the given function.
+     */
+    public Validation<T, S> tryFilter(ExceptionalPredicate<? super T, ? extends Exception> predicate, Function<? super Exception, ? extends S> onException) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(onException);
+        if (isFailure()) {
+            return this;
+        }
+        boolean passed;
+        Object event = ValidationEvents.beginTry();
         try {
-            return filter((a) -> {
-                try {
-                    return predicate.test(a);
-                } catch (Exception e) {
-                    throw new MapException(e);
-                }
-            });
-        } catch (MapException e) {
-            return failure(e.getCause());
+            passed = predicate.test(get());
+        } catch (Exception e) {
+            ValidationEvents.endTry(event, "tryFilter", e);
+            return failure(onException.apply(e));
         }
+        ValidationEvents.endTry(event, "tryFilter", null);
+        return passed ? this : failure(Collections.<S>emptyList());
     }
 
     public Validation<T, S> filter(Predicate<? super T> predicate) {
@@ -155,15 +316,14 @@ public final class Validation<T,S> {
         if (isFailure()) {
             return this;
         } else {
-            T actualValue = value.get();
+            T actualValue = get();
             return predicate.test(actualValue) ? this : failure(asList());
         }
     }
 
     public Validation<T,S> compose(Validation<T,S> that, BinaryOperator<T> f) {
         if(this.isFailure() && that.isFailure()) {
-            List<S> composedErrors = Stream.concat(this.getErrors().stream(),that.getErrors().stream()).collect(Collectors.toList());
-            return failure(composedErrors);
+            return new Validation<>(this.errorRope().concat(that.errorRope()));
         }
         if(that.isFailure()) {
             return that;
@@ -174,36 +334,112 @@ public final class Validation<T,S> {
         return success(f.apply(this.get(), that.get()));
     }
 
+    /**
+     * Like {@link #compose(Validation, BinaryOperator)}, but holding no more than the given number of errors, so
+     * folding many failures together takes bounded memory. Errors beyond those are counted but not kept.
+     */
+    public Validation<T,S> compose(Validation<T,S> that, BinaryOperator<T> f, int maxErrors) {
+        requireAtLeastOne(maxErrors);
+        if(this.isFailure() && that.isFailure()) {
+            return new Validation<>(this.errorRope().concat(that.errorRope(), maxErrors));
+        }
+        return compose(that, f).capErrors(maxErrors);
+    }
+
     public interface IntegerValidationSupplier<E> extends Supplier<Validation<Integer,E>> {}
     @SafeVarargs
     public static <E> Validation<Integer,E> compose(IntegerValidationSupplier<E> ...  validationSuppliers) {
-        return asList(validationSuppliers).stream()
-                .map(Supplier::get)
-                .reduce(success(0), (v1, v2) -> v1.compose(v2, Integer::sum));
+        IntegerSum<E> sum = new IntegerSum<>();
+        for (IntegerValidationSupplier<E> supplier : validationSuppliers) {
+            sum.add(supplier.get());
+        }
+        return sum.result();
+    }
+
+    public static <E> Validation<Integer,E> sumIntegers(Iterable<? extends Validation<Integer,E>> validations) {
+        IntegerSum<E> sum = new IntegerSum<>();
+        for (Validation<Integer,E> validation : validations) {
+            sum.add(validation);
+        }
+        return sum.result();
+    }
+
+    public static <E> Validation<Integer,E> sumIntegers(Stream<? extends Validation<Integer,E>> validations) {
+        IntegerSum<E> sum = new IntegerSum<>();
+        validations.forEachOrdered(sum::add);
+        return sum.result();
     }
 
     public interface LongValidationSupplier<E> extends Supplier<Validation<Long,E>> {}
     @SafeVarargs
     public static <E> Validation<Long,E> compose(LongValidationSupplier<E> ...  validationSuppliers) {
-        return asList(validationSuppliers).stream()
-                .map(Supplier::get)
-                .reduce(success(0L), (v1, v2) -> v1.compose(v2, Long::sum));
+        LongSum<E> sum = new LongSum<>();
+        for (LongValidationSupplier<E> supplier : validationSuppliers) {
+            sum.add(supplier.get());
+        }
+        return sum.result();
+    }
+
+    public static <E> Validation<Long,E> sumLongs(Iterable<? extends Validation<Long,E>> validations) {
+        LongSum<E> sum = new LongSum<>();
+        for (Validation<Long,E> validation : validations) {
+            sum.add(validation);
+        }
+        return sum.result();
+    }
+
+    public static <E> Validation<Long,E> sumLongs(Stream<? extends Validation<Long,E>> validations) {
+        LongSum<E> sum = new LongSum<>();
+        validations.forEachOrdered(sum::add);
+        return sum.result();
     }
 
     public interface FloatValidationSupplier<E> extends Supplier<Validation<Float,E>> {}
     @SafeVarargs
     public static <E> Validation<Float,E> compose(FloatValidationSupplier<E> ...  validationSuppliers) {
-        return asList(validationSuppliers).stream()
-                .map(Supplier::get)
-                .reduce(success(0f), (v1, v2) -> v1.compose(v2, Float::sum));
+        FloatSum<E> sum = new FloatSum<>();
+        for (FloatValidationSupplier<E> supplier : validationSuppliers) {
+            sum.add(supplier.get());
+        }
+        return sum.result();
+    }
+
+    public static <E> Validation<Float,E> sumFloats(Iterable<? extends Validation<Float,E>> validations) {
+        FloatSum<E> sum = new FloatSum<>();
+        for (Validation<Float,E> validation : validations) {
+            sum.add(validation);
+        }
+        return sum.result();
+    }
+
+    public static <E> Validation<Float,E> sumFloats(Stream<? extends Validation<Float,E>> validations) {
+        FloatSum<E> sum = new FloatSum<>();
+        validations.forEachOrdered(sum::add);
+        return sum.result();
     }
 
     public interface DoubleValidationSupplier<E> extends Supplier<Validation<Double,E>> {}
     @SafeVarargs
     public static <E> Validation<Double,E> compose(DoubleValidationSupplier<E> ...  validationSuppliers) {
-        return asList(validationSuppliers).stream()
-                .map(Supplier::get)
-                .reduce(success(0d), (v1, v2) -> v1.compose(v2, Double::sum));
+        DoubleSum<E> sum = new DoubleSum<>();
+        for (DoubleValidationSupplier<E> supplier : validationSuppliers) {
+            sum.add(supplier.get());
+        }
+        return sum.result();
+    }
+
+    public static <E> Validation<Double,E> sumDoubles(Iterable<? extends Validation<Double,E>> validations) {
+        DoubleSum<E> sum = new DoubleSum<>();
+        for (Validation<Double,E> validation : validations) {
+            sum.add(validation);
+        }
+        return sum.result();
+    }
+
+    public static <E> Validation<Double,E> sumDoubles(Stream<? extends Validation<Double,E>> validations) {
+        DoubleSum<E> sum = new DoubleSum<>();
+        validations.forEachOrdered(sum::add);
+        return sum.result();
     }
 
     public interface BooleanValidationSupplier<E> extends Supplier<Validation<Boolean,E>> {}
@@ -253,17 +489,272 @@ public final class Validation<T,S> {
                 );
     }
 
-    private static class MapException extends RuntimeException{
-        public MapException(Exception e ) {
-            super(e);
+    /**
+     * Sums numeric validations into a primitive total, concatenating the errors of any failures.
+     */
+    private static abstract class Sum<N extends Number,E> {
+        private Rope<E> errors;
+
+        void add(Validation<N,E> validation) {
+            if (validation.isFailure()) {
+                errors = errors == null ? validation.errorRope() : errors.concat(validation.errorRope());
+            } else if (errors == null) {
+                accumulate(validation.get());
+            }
+        }
+
+        abstract void accumulate(N value);
+
+        abstract N total();
+
+        Validation<N,E> result() {
+            return errors == null ? success(total()) : new Validation<>(errors);
+        }
+    }
+
+    private static final class IntegerSum<E> extends Sum<Integer,E> {
+        private int total = 0;
+
+        @Override
+        void accumulate(Integer value) {
+            total += value;
+        }
+
+        @Override
+        Integer total() {
+            return total;
+        }
+    }
+
+    private static final class LongSum<E> extends Sum<Long,E> {
+        private long total = 0L;
+
+        @Override
+        void accumulate(Long value) {
+            total += value;
+        }
+
+        @Override
+        Long total() {
+            return total;
+        }
+    }
+
+    private static final class FloatSum<E> extends Sum<Float,E> {
+        private float total = 0f;
+
+        @Override
+        void accumulate(Float value) {
+            total += value;
+        }
+
+        @Override
+        Float total() {
+            return total;
+        }
+    }
+
+    private static final class DoubleSum<E> extends Sum<Double,E> {
+        private double total = 0d;
+
+        @Override
+        void accumulate(Double value) {
+            total += value;
+        }
+
+        @Override
+        Double total() {
+            return total;
+        }
+    }
+
+    /**
+     * Collects validations into the values of the successes and the errors of the failures, in encounter order.
+     * Errors are concatenated without copying, including when combining the results of a parallel stream.
+     */
+    public static <T,S> Collector<Validation<T,S>, ?, Partition<T,S>> partitioning() {
+        return Collector.of(
+                () -> new Accumulator<T,S>(Integer.MAX_VALUE),
+                Accumulator::add,
+                Accumulator::combine,
+                accumulator -> new Partition<>(accumulator.values().toList(), accumulator.errors)
+        );
+    }
+
+    /**
+     * Collects validations into the values of the successes and the errors of the failures, in no particular order,
+     * with every thread of a parallel stream adding to the same result.
+     */
+    public static <T,S> Collector<Validation<T,S>, ?, Partition<T,S>> partitioningConcurrently() {
+        return Collector.of(
+                ConcurrentAccumulator<T,S>::new,
+                ConcurrentAccumulator::add,
+                ConcurrentAccumulator::combine,
+                accumulator -> new Partition<>(new ArrayList<>(accumulator.values), accumulator.errors()),
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Collects validations into a success with the list of all their values, if every one is a success, or a failure
+     * with all their errors.
+     */
+    public static <T,S> Collector<Validation<T,S>, ?, Validation<List<T>,S>> sequence() {
+        return sequence(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Like {@link #sequence()}, but a failure holds no more than the given number of errors, counting the rest.
+     */
+    public static <T,S> Collector<Validation<T,S>, ?, Validation<List<T>,S>> sequence(int maxErrors) {
+        requireAtLeastOne(maxErrors);
+        return Collector.of(
+                () -> new Accumulator<T,S>(maxErrors),
+                Accumulator::add,
+                Accumulator::combine,
+                accumulator -> accumulator.anyFailures
+                        ? new Validation<>(accumulator.errors)
+                        : success(accumulator.values().toList())
+        );
+    }
+
+    /**
+     * Counts the failures among the validations, with every thread of a parallel stream adding to the same count.
+     */
+    public static <T,S> Collector<Validation<T,S>, ?, Long> countingFailures() {
+        return Collector.of(
+                LongAdder::new,
+                (count, validation) -> { if (validation.isFailure()) count.increment(); },
+                (a, b) -> { a.add(b.sum()); return a; },
+                LongAdder::sum,
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    public static final class Partition<T,S> {
+        private final List<T> values;
+        private final List<S> errors;
+        private final long errorCount;
+
+        private Partition(List<T> values, Rope<S> errors) {
+            this.values = values;
+            this.errors = errors.toList();
+            this.errorCount = errors.count();
+        }
+
+        public List<T> getValues() {
+            return values;
+        }
+
+        public List<S> getErrors() {
+            return errors;
+        }
+
+        /**
+         * The number of errors of the failures, including any beyond their caps which weren't kept.
+         */
+        public long errorCount() {
+            return errorCount;
+        }
+
+        public boolean isTruncated() {
+            return errorCount > errors.size();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Validation.Partition[values=%s, errors=%s]", values, errors);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Partition that = (Partition) o;
+
+            return values.equals(that.values) && errors.equals(that.errors) && errorCount == that.errorCount;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * values.hashCode() + errors.hashCode();
+        }
+    }
+
+    private static final class Accumulator<T,S> {
+        private final int maxErrors;
+        private Rope<T> values = Rope.empty();
+        private List<T> pendingValues = new ArrayList<>();
+        private Rope<S> errors = Rope.empty();
+        private boolean anyFailures;
+
+        Accumulator(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void add(Validation<T,S> validation) {
+            if (validation.isSuccess()) {
+                pendingValues.add(validation.get());
+            } else {
+                errors = errors.concat(validation.errorRope(), maxErrors);
+                anyFailures = true;
+            }
+        }
+
+        Accumulator<T,S> combine(Accumulator<T,S> that) {
+            values = this.values().concat(that.values());
+            errors = errors.concat(that.errors, maxErrors);
+            anyFailures |= that.anyFailures;
+            return this;
+        }
+
+        Rope<T> values() {
+            if (!pendingValues.isEmpty()) {
+                values = values.concat(Rope.of(pendingValues));
+                pendingValues = new ArrayList<>();
+            }
+            return values;
         }
-    };
+    }
+
+    // Failures are kept as their ropes, so their counts carry through, and only concatenated when finished
+    private static final class ConcurrentAccumulator<T,S> {
+        private final Queue<T> values = new ConcurrentLinkedQueue<>();
+        private final Queue<Rope<S>> failures = new ConcurrentLinkedQueue<>();
+
+        void add(Validation<T,S> validation) {
+            if (validation.isSuccess()) {
+                values.add(validation.get());
+            } else {
+                failures.add(validation.errorRope());
+            }
+        }
+
+        ConcurrentAccumulator<T,S> combine(ConcurrentAccumulator<T,S> that) {
+            values.addAll(that.values);
+            failures.addAll(that.failures);
+            return this;
+        }
+
+        Rope<S> errors() {
+            Rope<S> errors = Rope.empty();
+            for (Rope<S> failure : failures) {
+                errors = errors.concat(failure);
+            }
+            return errors;
+        }
+    }
 
     @Override
     public String toString() {
         return isSuccess()
-                ? String.format("Validation.success[%s]",value.get())
-                : String.format("Validation.failure[%s]",errors);
+                ? String.format("Validation.success[%s]",get())
+                : isTruncated()
+                    ? String.format("Validation.failure[%s and %d more]", getErrors(), errorCount() - getErrors().size())
+                    : String.format("Validation.failure[%s]",getErrors());
     }
 
     @Override
@@ -273,14 +764,14 @@ public final class Validation<T,S> {
 
         Validation that = (Validation) o;
 
-        return errors.equals(that.errors) && value.equals(that.value);
+        return isSuccess() == that.isSuccess() && (isSuccess()
+                ? state.equals(that.state)
+                : getErrors().equals(that.getErrors()) && errorCount() == that.errorCount());
 
     }
 
     @Override
     public int hashCode() {
-        int result = value.hashCode();
-        result = 31 * result + errors.hashCode();
-        return result;
+        return isSuccess() ? state.hashCode() : 31 + getErrors().hashCode();
     }
 }
@@ -0,0 +1,29 @@
+package co.unruly.util;
+
+import java.util.function.Supplier;
+
+/**
+ * Hooks for recording validations as JDK Flight Recorder events. On Java 8 these do nothing; the multi-release jar
+ * replaces this class on Java 11 and later with one which records events while a recording is running.
+ *
+ * Begin methods return null when events aren't being recorded, which callers check before doing any other work.
+ */
+final class ValidationEvents {
+
+    private ValidationEvents() {
+    }
+
+    static Object beginValidate() {
+        return null;
+    }
+
+    static void endValidate(Object event, int rulesEvaluated, int errorCount, Supplier<String> failingRules) {
+    }
+
+    static Object beginTry() {
+        return null;
+    }
+
+    static void endTry(Object event, String operation, Exception thrown) {
+    }
+}
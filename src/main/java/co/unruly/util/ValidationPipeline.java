@@ -0,0 +1,146 @@
+package co.unruly.util;
+
+import co.unruly.util.function.ExceptionalFunction;
+import co.unruly.util.function.ExceptionalPredicate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A chain of map, flatMap and filter steps described once and applied to many inputs, giving the same result as
+ * calling the same steps on {@code Validation.success(input)}. A pipeline is immutable, so can be shared between
+ * threads, and applying it calls the steps, composed into a single function when built, without creating any
+ * intermediate validations.
+ *
+ * @param <A> Type of the input
+ * @param <T> Type of a successful result
+ * @param <S> Type of errors
+ */
+public final class ValidationPipeline<A,T,S> {
+    private final Function<Object, Validation<?,S>> composed;
+
+    private ValidationPipeline(Function<Object, Validation<?,S>> composed) {
+        this.composed = composed;
+    }
+
+    public static <A,S> Builder<A,A,S> builder() {
+        return new Builder<>(Collections.<Stage<S>>emptyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    public Validation<T,S> apply(A input) {
+        return (Validation<T,S>) composed.apply(Objects.requireNonNull(input));
+    }
+
+    // A step, given the rest of the pipeline to pass its result on to
+    private interface Stage<S> {
+        Function<Object, Validation<?,S>> then(Function<Object, Validation<?,S>> rest);
+    }
+
+    private static <S> Validation<?,S> filteredOut() {
+        return Validation.failure(Collections.<S>emptyList());
+    }
+
+    private static <S> Validation<?,S> passOn(Object value, Function<Object, Validation<?,S>> rest) {
+        return value == null ? filteredOut() : rest.apply(value);
+    }
+
+    /**
+     * Describes the steps of a pipeline. Each step returns a new builder, so a builder can be shared and extended.
+     */
+    public static final class Builder<A,T,S> {
+        private final List<Stage<S>> stages;
+
+        private Builder(List<Stage<S>> stages) {
+            this.stages = stages;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <U> Builder<A,U,S> map(Function<? super T, ? extends U> mapper) {
+            Objects.requireNonNull(mapper);
+            return then(rest -> value -> passOn(mapper.apply((T) value), rest));
+        }
+
+        @SuppressWarnings("unchecked")
+        public <U> Builder<A,U,S> flatMap(Function<? super T, ? extends Validation<U,S>> mapper) {
+            Objects.requireNonNull(mapper);
+            return then(rest -> value -> {
+                Validation<U,S> next = mapper.apply((T) value);
+                return next.isFailure() ? next : passOn(next.get(), rest);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        public Builder<A,T,S> filter(Predicate<? super T> predicate) {
+            Objects.requireNonNull(predicate);
+            return then(rest -> value -> predicate.test((T) value) ? rest.apply(value) : filteredOut());
+        }
+
+        @SuppressWarnings("unchecked")
+        public <U> Builder<A,U,S> tryMap(ExceptionalFunction<? super T, ? extends U, ? extends Exception> mapper, Function<? super Exception, ? extends S> onException) {
+            Objects.requireNonNull(mapper);
+            Objects.requireNonNull(onException);
+            return then(rest -> value -> {
+                U mapped;
+                try {
+                    mapped = mapper.apply((T) value);
+                } catch (Exception e) {
+                    return Validation.failure(onException.apply(e));
+                }
+                return passOn(mapped, rest);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        public <U> Builder<A,U,S> tryFlatMap(ExceptionalFunction<? super T, ? extends Validation<U,S>, ? extends Exception> mapper, Function<? super Exception, ? extends S> onException) {
+            Objects.requireNonNull(mapper);
+            Objects.requireNonNull(onException);
+            return then(rest -> value -> {
+                Validation<U,S> next;
+                try {
+                    next = mapper.apply((T) value);
+                } catch (Exception e) {
+                    return Validation.failure(onException.apply(e));
+                }
+                return next.isFailure() ? next : passOn(next.get(), rest);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        public Builder<A,T,S> tryFilter(ExceptionalPredicate<? super T, ? extends Exception> predicate, Function<? super Exception, ? extends S> onException) {
+            Objects.requireNonNull(predicate);
+            Objects.requireNonNull(onException);
+            return then(rest -> value -> {
+                boolean kept;
+                try {
+                    kept = predicate.test((T) value);
+                } catch (Exception e) {
+                    return Validation.failure(onException.apply(e));
+                }
+                return kept ? rest.apply(value) : filteredOut();
+            });
+        }
+
+        private <U> Builder<A,U,S> then(Stage<S> stage) {
+            List<Stage<S>> extended = new ArrayList<>(stages.size() + 1);
+            extended.addAll(stages);
+            extended.add(stage);
+            return new Builder<>(extended);
+        }
+
+        /**
+         * Composes the steps, last first, into the single function the pipeline applies.
+         */
+        public ValidationPipeline<A,T,S> build() {
+            Function<Object, Validation<?,S>> composed = Validation::success;
+            for (int i = stages.size() - 1; i >= 0; i--) {
+                composed = stages.get(i).then(composed);
+            }
+            return new ValidationPipeline<>(composed);
+        }
+    }
+}
@@ -1,51 +1,595 @@
 package co.unruly.util;
 
-import java.util.Arrays;
-import java.util.List;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class Validator<T,U> {
-    private Validator(List<ValidatorPair<T, U>> validatorPairs) {
-        this.validatorPairs = validatorPairs;
-    }
+    static final int PARALLEL_THRESHOLD = 32;
+    static final int BATCH_SPLIT_THRESHOLD = 1024;
 
-    private static class ValidatorPair<T,U> {
-        final Predicate<T> predicate;
-        final U error;
+    private final Predicate<T>[] predicates;
+    private final U[] errors;
+    private final int maxErrors;
+    // The most errors a validation keeps, counting any beyond
+    private final int errorCap;
+    // Names of the rules, or null where none was given, only read when instrumenting
+    private final String[] names;
+    // The cache of each memoizing rule, or null for rules which don't memoize, only read for their statistics
+    private final BoundedCache<?,?>[] caches;
+    // For each rule, the index of the first rule with the same predicate, or null if no predicate appears twice
+    private final int[] firstOccurrences;
 
-        private ValidatorPair(Predicate<T> predicate, U error) {
-            this.predicate = predicate;
-            this.error = error;
-        }
+    private Validator(Predicate<T>[] predicates, U[] errors, String[] names, BoundedCache<?,?>[] caches, int maxErrors, int errorCap) {
+        this.predicates = predicates;
+        this.errors = errors;
+        this.names = names;
+        this.caches = caches;
+        this.maxErrors = maxErrors;
+        this.errorCap = errorCap;
+        this.firstOccurrences = firstOccurrences(predicates);
     }
 
-    private final List<ValidatorPair<T,U>> validatorPairs;
+    private static int[] firstOccurrences(Predicate<?>[] predicates) {
+        Map<Predicate<?>, Integer> seen = new IdentityHashMap<>();
+        int[] firstOccurrences = new int[predicates.length];
+        boolean shared = false;
+        for (int i = 0; i < predicates.length; i++) {
+            Integer first = seen.putIfAbsent(predicates[i], i);
+            firstOccurrences[i] = first == null ? i : first;
+            shared |= first != null;
+        }
+        return shared ? firstOccurrences : null;
+    }
 
     public static <T,U> Validator<T,U> from(Predicate<T> predicate, U failure) {
-        return new Validator<>(Arrays.asList(new ValidatorPair<>(predicate,failure)));
+        return from(null, predicate, failure);
+    }
+
+    /**
+     * A validator with a single named rule. The name identifies the rule when instrumented, see {@link #instrumented()};
+     * rules without a name are identified by their error.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T,U> Validator<T,U> from(String name, Predicate<T> predicate, U failure) {
+        return new Validator<>(new Predicate[] { predicate }, (U[]) new Object[] { failure }, new String[] { name }, new BoundedCache[1], Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * A validator of the field a getter gets, whose errors are those of the given validator tagged with the field's
+     * path. Compose field validators to validate an object field by field.
+     */
+    public static <T,F,U> Validator<T, FieldError<U>> field(Function<? super T, ? extends F> getter, String path, Validator<F,U> validator) {
+        return validator.onField(getter, path, error -> new FieldError<>(path, error));
+    }
+
+    /**
+     * A validator of a field which is itself validated field by field, prefixing the paths of its errors with the
+     * field's path, as in {@code address.postcode}.
+     */
+    public static <T,F,U> Validator<T, FieldError<U>> nested(Function<? super T, ? extends F> getter, String path, Validator<F, FieldError<U>> validator) {
+        return validator.onField(getter, path, error -> error.within(path));
+    }
+
+    /**
+     * Like {@link #field(Function, String, Validator)}, but finding the getter of the named property of the type,
+     * from a public method {@code getName()}, {@code isName()} or {@code name()}. Getters are found once per class
+     * and compiled to functions, so validating costs the same as with a lambda.
+     * @throws IllegalArgumentException if the type has no such getter
+     */
+    @SuppressWarnings("unchecked")
+    public static <T,F,U> Validator<T, FieldError<U>> property(Class<T> type, String name, Validator<F,U> validator) {
+        return field((Function<? super T, ? extends F>) Accessors.getter(type, name), name, validator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S,V> Validator<S,V> onField(Function<? super S, ? extends T> getter, String path, Function<U,V> tag) {
+        Objects.requireNonNull(getter);
+        Objects.requireNonNull(path);
+        Predicate<S>[] fieldPredicates = new Predicate[predicates.length];
+        V[] fieldErrors = (V[]) new Object[errors.length];
+        String[] fieldNames = new String[names.length];
+        for (int i = 0; i < predicates.length; i++) {
+            if (firstOccurrences != null && firstOccurrences[i] != i) {
+                fieldPredicates[i] = fieldPredicates[firstOccurrences[i]];
+            } else {
+                Predicate<T> predicate = predicates[i];
+                fieldPredicates[i] = value -> predicate.test(getter.apply(value));
+            }
+            fieldErrors[i] = tag.apply(errors[i]);
+            fieldNames[i] = names[i] == null ? null : path + "." + names[i];
+        }
+        return new Validator<>(fieldPredicates, fieldErrors, fieldNames, caches, maxErrors, errorCap);
     }
 
+    /**
+     * Composes the rules of this validator with those of another, keeping the evaluation mode and error cap of this
+     * validator.
+     */
     public Validator<T,U> compose(Validator<T,U> other) {
-        List<ValidatorPair<T, U>> newValidatorPairs = Stream.concat(validatorPairs.stream(), other.validatorPairs.stream()).collect(Collectors.toList());
-        return new Validator<>(newValidatorPairs);
+        return new Validator<>(concat(predicates, other.predicates), concat(errors, other.errors), concat(names, other.names), concat(caches, other.caches), maxErrors, errorCap);
+    }
+
+    /**
+     * A validator with the same rules which evaluates all of them and reports every error. This is the default.
+     */
+    public Validator<T,U> accumulateAll() {
+        return new Validator<>(predicates, errors, names, caches, Integer.MAX_VALUE, errorCap);
+    }
+
+    /**
+     * A validator with the same rules which stops at the first failing rule, reporting only its error.
+     */
+    public Validator<T,U> failFast() {
+        return firstErrors(1);
+    }
+
+    /**
+     * A validator with the same rules which stops once the given number of rules have failed, reporting only
+     * their errors.
+     */
+    public Validator<T,U> firstErrors(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be at least 1, was " + maxErrors);
+        }
+        return new Validator<>(predicates, errors, names, caches, maxErrors, errorCap);
+    }
+
+    /**
+     * A validator with the same rules and evaluation mode whose validations keep no more than the given number of
+     * errors. Unlike {@link #firstErrors(int)}, every rule is still evaluated, and errors beyond those kept are
+     * counted by {@link Validation#errorCount()}.
+     */
+    public Validator<T,U> capErrors(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be at least 1, was " + maxErrors);
+        }
+        return new Validator<>(predicates, errors, names, caches, this.maxErrors, maxErrors);
+    }
+
+    /**
+     * An adaptive validator with the same rules, evaluation mode and error cap, which reorders evaluation at runtime
+     * so cheap, frequently failing rules run first.
+     */
+    public AdaptiveValidator<T,U> adaptive() {
+        return adaptive(AdaptiveValidator.DEFAULT_SAMPLE_RATE, AdaptiveValidator.DEFAULT_REORDER_INTERVAL);
+    }
+
+    AdaptiveValidator<T,U> adaptive(int sampleRate, int reorderInterval) {
+        return new AdaptiveValidator<>(this, predicates, firstOccurrences, maxErrors, sampleRate, reorderInterval);
+    }
+
+    /**
+     * A validator with the same rules, evaluation mode and error cap which records how often each rule is evaluated,
+     * how often it fails, and how long it takes. This validator is unaffected, so costs nothing extra.
+     */
+    public InstrumentedValidator<T,U> instrumented() {
+        String[] ruleNames = new String[names.length];
+        Arrays.setAll(ruleNames, this::ruleName);
+        return new InstrumentedValidator<>(this, predicates, firstOccurrences, ruleNames, maxErrors);
+    }
+
+    /**
+     * A validator which caches the validations of up to the given number of values, discarding the least recently
+     * used. A cached validation may hold an earlier value equal to the one being validated.
+     */
+    public MemoizingValidator<T,U> memoized(int maxSize) {
+        return memoized(maxSize, Duration.ZERO);
+    }
+
+    /**
+     * A validator which caches the validations of up to the given number of values, for no longer than the given time.
+     */
+    public MemoizingValidator<T,U> memoized(int maxSize, Duration timeToLive) {
+        return memoized(maxSize, timeToLive, System::nanoTime);
+    }
+
+    MemoizingValidator<T,U> memoized(int maxSize, Duration timeToLive, LongSupplier clock) {
+        return new MemoizingValidator<>(this, new BoundedCache<>(maxSize, timeToLive.toNanos(), clock));
+    }
+
+    /**
+     * A validator whose rules each cache their result for up to the given number of values. Use this on validators
+     * of expensive rules before composing them with cheaper ones, so that only the expensive rules are memoized.
+     */
+    public Validator<T,U> memoizingRules(int maxSize) {
+        return memoizingRules(maxSize, Duration.ZERO);
+    }
+
+    /**
+     * A validator whose rules each cache their result for up to the given number of values, for no longer than the
+     * given time. The caches' statistics, summed, are given by {@link #ruleCacheStats()}, even once composed.
+     */
+    @SuppressWarnings("unchecked")
+    public Validator<T,U> memoizingRules(int maxSize, Duration timeToLive) {
+        Predicate<T>[] memoized = new Predicate[predicates.length];
+        BoundedCache<?,?>[] memoizedCaches = caches.clone();
+        for (int i = 0; i < predicates.length; i++) {
+            if (firstOccurrences != null && firstOccurrences[i] != i) {
+                memoized[i] = memoized[firstOccurrences[i]];
+                memoizedCaches[i] = memoizedCaches[firstOccurrences[i]];
+                continue;
+            }
+            Function<T, Boolean> test = predicates[i]::test;
+            BoundedCache<T, Boolean> cache = new BoundedCache<>(maxSize, timeToLive.toNanos(), System::nanoTime);
+            memoized[i] = value -> cache.get(value, test);
+            memoizedCaches[i] = cache;
+        }
+        return new Validator<>(memoized, errors, names, memoizedCaches, maxErrors, errorCap);
+    }
+
+    /**
+     * The statistics of the caches of rules memoized by {@link #memoizingRules(int, Duration)}, summed. Rules which
+     * don't memoize count nothing.
+     */
+    public CacheStats ruleCacheStats() {
+        long hits = 0;
+        long misses = 0;
+        long evictions = 0;
+        Set<BoundedCache<?,?>> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (BoundedCache<?,?> cache : caches) {
+            if (cache != null && counted.add(cache)) {
+                CacheStats stats = cache.stats();
+                hits += stats.hitCount();
+                misses += stats.missCount();
+                evictions += stats.evictionCount();
+            }
+        }
+        return new CacheStats(hits, misses, evictions);
     }
 
+    /**
+     * Validates the value. The errors of a failure are only looked up from the failing rules when first asked for.
+     * Slow validations are recorded as Flight Recorder events on Java 11 and later.
+     */
     public Validation<T,U> validate(T value) {
-        return validatorPairs
-                .stream()
-                .map(pair -> pair.predicate.test(value) ? Validation.<T, U>success(value) : Validation.<T, U>failure(pair.error))
-                .reduce(Validation.<T, U>success(value), (Validation<T, U> val1, Validation<T, U> val2) -> {
-                    if (val1.isSuccess() && val2.isSuccess()) {
-                        return val1;
-                    } else {
-                        List<U> errors = Stream.concat(
-                                val1.getErrors().stream(),
-                                val2.getErrors().stream()
-                        ).collect(Collectors.toList());
-                        return Validation.<T, U>failure(errors);
+        Object event = ValidationEvents.beginValidate();
+        if (predicates.length <= Long.SIZE) {
+            long mask = mask(value);
+            if (event != null) {
+                ValidationEvents.endValidate(event, rulesEvaluated(Long.SIZE - Long.numberOfLeadingZeros(mask), Long.bitCount(mask)),
+                        Long.bitCount(mask), () -> ruleNames(BitSet.valueOf(new long[] { mask })));
+            }
+            return outcome(value, mask);
+        }
+        BitSet bits = bits(value);
+        if (event != null) {
+            BitSet failed = bits == null ? new BitSet() : bits;
+            ValidationEvents.endValidate(event, rulesEvaluated(failed.length(), failed.cardinality()),
+                    failed.cardinality(), () -> ruleNames(failed));
+        }
+        return outcome(value, bits);
+    }
+
+    /**
+     * The validation of the value given a mask of the rules which failed, keeping no more errors than the cap.
+     */
+    Validation<T,U> outcome(T value, long mask) {
+        return mask == 0 ? Validation.success(value) : Validation.fromErrors(Rope.masked(errors, mask).capped(errorCap));
+    }
+
+    /**
+     * The validation of the value given the set of rules which failed, or null if none did. The validation keeps the
+     * set, so it mustn't be changed afterwards.
+     */
+    Validation<T,U> outcome(T value, BitSet bits) {
+        return bits == null ? Validation.success(value) : Validation.fromErrors(Rope.maskedOwning(errors, bits).capped(errorCap));
+    }
+
+    // Evaluation stops at the last failing rule only if it reached the maximum number of errors
+    private int rulesEvaluated(int lastFailure, int failureCount) {
+        return failureCount == maxErrors ? lastFailure : predicates.length;
+    }
+
+    private String ruleNames(BitSet rules) {
+        StringJoiner joined = new StringJoiner(", ");
+        for (int i = rules.nextSetBit(0); i >= 0; i = rules.nextSetBit(i + 1)) {
+            joined.add(ruleName(i));
+        }
+        return joined.toString();
+    }
+
+    private String ruleName(int rule) {
+        return names[rule] == null ? String.valueOf(errors[rule]) : names[rule];
+    }
+
+    /**
+     * Whether the value passes every rule, stopping at the first which fails.
+     */
+    public boolean test(T value) {
+        for (int i = 0; i < predicates.length; i++) {
+            if ((firstOccurrences == null || firstOccurrences[i] == i) && !predicates[i].test(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validates the value, reporting the errors of failing rules to the sink in order rather than returning them,
+     * and returning whether it passed. Errors beyond the cap are counted by the sink rather than kept. Allocates
+     * nothing unless the validator has more than 64 rules, some of which are shared, and one fails.
+     */
+    public boolean validateInto(T value, ErrorSink<? super U> sink) {
+        if (firstOccurrences != null && predicates.length > Long.SIZE) {
+            BitSet bits = bits(value);
+            if (bits == null) {
+                return true;
+            }
+            int reported = 0;
+            for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+                report(errors[i], reported++, sink);
+            }
+            return false;
+        }
+        long mask = 0;
+        int failureCount = 0;
+        for (int i = 0; i < predicates.length && failureCount < maxErrors; i++) {
+            boolean failed = firstOccurrences == null || firstOccurrences[i] == i
+                    ? !predicates[i].test(value)
+                    : (mask & (1L << firstOccurrences[i])) != 0;
+            if (failed) {
+                mask |= 1L << i;
+                report(errors[i], failureCount++, sink);
+            }
+        }
+        return failureCount == 0;
+    }
+
+    private void report(U error, int reported, ErrorSink<? super U> sink) {
+        if (reported < errorCap) {
+            sink.accept(error);
+        } else {
+            sink.drop();
+        }
+    }
+
+    /**
+     * Validates the value, splitting the rules across the common fork join pool. Gives the same result as
+     * {@link #validate(Object)}, but every rule is evaluated even if the validator would stop early, as rules run
+     * concurrently. Validators with no more than {@value #PARALLEL_THRESHOLD} rules are validated on this thread.
+     */
+    public Validation<T,U> validateParallel(T value) {
+        return validateParallel(value, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates the value, splitting the rules across the given fork join pool.
+     * @see #validateParallel(Object)
+     */
+    public Validation<T,U> validateParallel(T value, ForkJoinPool pool) {
+        if (predicates.length <= PARALLEL_THRESHOLD) {
+            return validate(value);
+        }
+        boolean[] failed = new boolean[predicates.length];
+        pool.invoke(new ParallelEvaluation<>(predicates, firstOccurrences, value, failed, 0, predicates.length));
+        if (firstOccurrences != null) {
+            for (int i = 0; i < failed.length; i++) {
+                failed[i] = failed[firstOccurrences[i]];
+            }
+        }
+
+        List<U> failures = null;
+        for (int i = 0; i < failed.length; i++) {
+            if (failed[i]) {
+                if (failures == null) {
+                    failures = new ArrayList<>(Math.min(failed.length - i, maxErrors));
+                }
+                failures.add(errors[i]);
+                if (failures.size() == maxErrors) {
+                    break;
+                }
+            }
+        }
+        return failures == null ? Validation.success(value) : Validation.fromErrors(Rope.of(failures).capped(errorCap));
+    }
+
+    /**
+     * Validates each of the values in turn, keeping only the errors of those which fail.
+     */
+    public BatchValidation<U> validateAll(Collection<? extends T> values) {
+        BatchValidation.Builder<U> batch = new BatchValidation.Builder<>();
+        int index = 0;
+        for (T value : values) {
+            record(batch, index++, value);
+        }
+        return batch.build();
+    }
+
+    /**
+     * Validates each of the values in the stream, keeping only the errors of those which fail. If the stream is
+     * parallel and its size is known when split, as for streams over lists and arrays, the values are split across
+     * the fork join pool.
+     */
+    public BatchValidation<U> validateAll(Stream<? extends T> values) {
+        Spliterator<? extends T> spliterator = values.spliterator();
+        if (values.isParallel() && spliterator.hasCharacteristics(Spliterator.SUBSIZED)) {
+            return new BatchEvaluation<>(this, spliterator, 0).invoke().build();
+        }
+        BatchValidation.Builder<U> batch = new BatchValidation.Builder<>();
+        int[] index = { 0 };
+        spliterator.forEachRemaining(value -> record(batch, index[0]++, value));
+        return batch.build();
+    }
+
+    private void record(BatchValidation.Builder<U> batch, int index, T value) {
+        Rope<U> failures = failures(value);
+        if (failures == null) {
+            batch.passed();
+        } else {
+            batch.failed(index, failures);
+        }
+    }
+
+    /**
+     * Runs the rules against the value, returning the errors of those which fail in order, or null if all pass.
+     * Stops evaluating once the maximum number of errors for this validator has been reached, and keeps no more errors
+     * than its cap, counting the rest.
+     */
+    Rope<U> failures(T value) {
+        if (predicates.length <= Long.SIZE) {
+            long mask = mask(value);
+            return mask == 0 ? null : Rope.masked(errors, mask).capped(errorCap);
+        }
+        BitSet bits = bits(value);
+        return bits == null ? null : Rope.maskedOwning(errors, bits).capped(errorCap);
+    }
+
+    /**
+     * Runs the rules against the value, returning a mask with bit {@code i} set if the {@code i}th rule composed
+     * failed. Stops evaluating once the maximum number of errors for this validator has been reached.
+     * @throws IllegalStateException if this validator has more than 64 rules
+     */
+    public long failureMask(T value) {
+        if (predicates.length > Long.SIZE) {
+            throw new IllegalStateException(predicates.length + " rules don't fit in a mask, use failureBits instead");
+        }
+        return mask(value);
+    }
+
+    /**
+     * Runs the rules against the value, returning a set with bit {@code i} set if the {@code i}th rule composed
+     * failed. Stops evaluating once the maximum number of errors for this validator has been reached.
+     */
+    public BitSet failureBits(T value) {
+        if (predicates.length <= Long.SIZE) {
+            return BitSet.valueOf(new long[] { mask(value) });
+        }
+        BitSet bits = bits(value);
+        return bits == null ? new BitSet() : bits;
+    }
+
+    /**
+     * The errors of the rules whose bits are set in a mask from {@link #failureMask(Object)}, in order.
+     */
+    public List<U> errorsOf(long mask) {
+        if (predicates.length < Long.SIZE && mask >>> predicates.length != 0) {
+            throw new IllegalArgumentException("mask has bits set beyond the " + predicates.length + " rules of this validator");
+        }
+        return Rope.masked(errors, mask).toList();
+    }
+
+    /**
+     * The errors of the rules whose bits are set in a set from {@link #failureBits(Object)}, in order.
+     */
+    public List<U> errorsOf(BitSet bits) {
+        if (bits.length() > predicates.length) {
+            throw new IllegalArgumentException("set has bits set beyond the " + predicates.length + " rules of this validator");
+        }
+        return Rope.masked(errors, bits).toList();
+    }
+
+    // Rules sharing a predicate reuse the result of its first evaluation, which is always earlier in the mask
+    private long mask(T value) {
+        long mask = 0;
+        int failureCount = 0;
+        for (int i = 0; i < predicates.length; i++) {
+            boolean failed = firstOccurrences == null || firstOccurrences[i] == i
+                    ? !predicates[i].test(value)
+                    : (mask & (1L << firstOccurrences[i])) != 0;
+            if (failed) {
+                mask |= 1L << i;
+                if (++failureCount == maxErrors) {
+                    return mask;
+                }
+            }
+        }
+        return mask;
+    }
+
+    // The set is only allocated once a rule fails, so this returns null if every rule passes
+    private BitSet bits(T value) {
+        BitSet bits = null;
+        int failureCount = 0;
+        for (int i = 0; i < predicates.length; i++) {
+            boolean failed = firstOccurrences == null || firstOccurrences[i] == i
+                    ? !predicates[i].test(value)
+                    : bits != null && bits.get(firstOccurrences[i]);
+            if (failed) {
+                if (bits == null) {
+                    bits = new BitSet(predicates.length);
+                }
+                bits.set(i);
+                if (++failureCount == maxErrors) {
+                    return bits;
+                }
+            }
+        }
+        return bits;
+    }
+
+    private static class ParallelEvaluation<T> extends RecursiveAction {
+        private final Predicate<T>[] predicates;
+        private final int[] firstOccurrences;
+        private final T value;
+        private final boolean[] failed;
+        private final int from;
+        private final int to;
+
+        private ParallelEvaluation(Predicate<T>[] predicates, int[] firstOccurrences, T value, boolean[] failed, int from, int to) {
+            this.predicates = predicates;
+            this.firstOccurrences = firstOccurrences;
+            this.value = value;
+            this.failed = failed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    if (firstOccurrences == null || firstOccurrences[i] == i) {
+                        failed[i] = !predicates[i].test(value);
                     }
-                });
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new ParallelEvaluation<>(predicates, firstOccurrences, value, failed, from, middle),
+                        new ParallelEvaluation<>(predicates, firstOccurrences, value, failed, middle, to)
+                );
+            }
+        }
+    }
+
+    private static class BatchEvaluation<T,U> extends RecursiveTask<BatchValidation.Builder<U>> {
+        private final Validator<T,U> validator;
+        private final Spliterator<? extends T> values;
+        private final int offset;
+
+        private BatchEvaluation(Validator<T,U> validator, Spliterator<? extends T> values, int offset) {
+            this.validator = validator;
+            this.values = values;
+            this.offset = offset;
+        }
+
+        @Override
+        protected BatchValidation.Builder<U> compute() {
+            Spliterator<? extends T> prefix;
+            if (values.estimateSize() > BATCH_SPLIT_THRESHOLD && (prefix = values.trySplit()) != null) {
+                BatchEvaluation<T,U> first = new BatchEvaluation<>(validator, prefix, offset);
+                BatchEvaluation<T,U> rest = new BatchEvaluation<>(validator, values, offset + (int) prefix.getExactSizeIfKnown());
+                first.fork();
+                BatchValidation.Builder<U> restBatch = rest.compute();
+                return first.join().append(restBatch);
+            }
+            BatchValidation.Builder<U> batch = new BatchValidation.Builder<>();
+            int[] index = { offset };
+            values.forEachRemaining(value -> validator.record(batch, index[0]++, value));
+            return batch;
+        }
+    }
+
+    private static <E> E[] concat(E[] first, E[] second) {
+        E[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
     }
 }
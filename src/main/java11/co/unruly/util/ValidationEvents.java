@@ -0,0 +1,100 @@
+package co.unruly.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.util.function.Supplier;
+
+/**
+ * Records validations as JDK Flight Recorder events. Events are only committed when they take longer than their
+ * threshold, which defaults to 10 ms and can be changed in the recording's settings.
+ */
+final class ValidationEvents {
+
+    private ValidationEvents() {
+    }
+
+    @Name("co.unruly.validation.Validate")
+    @Label("Validate")
+    @Category("Validation")
+    @Description("A value validated by a Validator")
+    @Threshold("10 ms")
+    @StackTrace(false)
+    static final class ValidateEvent extends Event {
+        @Label("Rules Evaluated")
+        int rulesEvaluated;
+
+        @Label("Errors")
+        int errorCount;
+
+        @Label("Failing Rules")
+        String failingRules;
+    }
+
+    @Name("co.unruly.validation.Try")
+    @Label("Try")
+    @Category("Validation")
+    @Description("A function which may throw, run by one of the try operations of Validation")
+    @Threshold("10 ms")
+    static final class TryEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Failed")
+        boolean failed;
+
+        @Label("Exception Class")
+        Class<?> exceptionClass;
+    }
+
+    static Object beginValidate() {
+        ValidateEvent event = new ValidateEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void endValidate(Object event, int rulesEvaluated, int errorCount, Supplier<String> failingRules) {
+        if (event == null) {
+            return;
+        }
+        ValidateEvent validateEvent = (ValidateEvent) event;
+        validateEvent.end();
+        if (validateEvent.shouldCommit()) {
+            validateEvent.rulesEvaluated = rulesEvaluated;
+            validateEvent.errorCount = errorCount;
+            validateEvent.failingRules = errorCount == 0 ? null : failingRules.get();
+            validateEvent.commit();
+        }
+    }
+
+    static Object beginTry() {
+        TryEvent event = new TryEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void endTry(Object event, String operation, Exception thrown) {
+        if (event == null) {
+            return;
+        }
+        TryEvent tryEvent = (TryEvent) event;
+        tryEvent.end();
+        if (tryEvent.shouldCommit()) {
+            tryEvent.operation = operation;
+            tryEvent.failed = thrown != null;
+            tryEvent.exceptionClass = thrown == null ? null : thrown.getClass();
+            tryEvent.commit();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package co.unruly.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static co.unruly.matchers.ValidationMatchers.*;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+public class AdaptiveValidatorTest {
+
+    private final AtomicInteger slowEvaluations = new AtomicInteger();
+
+    private final Predicate<Integer> slowAndRarelyFailing = i -> {
+        slowEvaluations.incrementAndGet();
+        long until = System.nanoTime() + 50_000;
+        while (System.nanoTime() < until) { }
+        return Math.abs(i) != 13;
+    };
+
+    private final Validator<Integer, String> slow = Validator.from(slowAndRarelyFailing, "unlucky");
+    private final Validator<Integer, String> positive = Validator.from(i -> i > 0, "not positive");
+    private final Validator<Integer, String> even = Validator.from(i -> i % 2 == 0, "not even");
+
+    @Test
+    public void shouldValidateLikeTheValidatorItWasCreatedFrom() throws Exception {
+        AdaptiveValidator<Integer, String> validator = slow.compose(positive).compose(even).adaptive(1, 1);
+        assertThat(validator.validate(42), hasValue(42));
+        assertThat(validator.validate(-1).getErrors(), contains("not positive", "not even"));
+        assertThat(validator.validate(13).getErrors(), contains("unlucky", "not even"));
+    }
+
+    @Test
+    public void shouldMoveCheapFrequentlyFailingRulesFirst() throws Exception {
+        AdaptiveValidator<Integer, String> validator = slow.compose(even).compose(positive).failFast().adaptive(1, 10);
+        for (int i = 0; i < 100; i++) {
+            validator.validate(-1);
+        }
+        assertThat(validator.evaluationOrder()[2], is(0));
+
+        slowEvaluations.set(0);
+        for (int i = 0; i < 100; i++) {
+            assertThat(validator.validate(-1), isFailureNotSuccess());
+        }
+        assertThat(slowEvaluations.get(), lessThan(10));
+    }
+
+    @Test
+    public void shouldReportErrorsInComposedOrderWhateverTheEvaluationOrder() throws Exception {
+        AdaptiveValidator<Integer, String> validator = slow.compose(positive).compose(even).adaptive(1, 10);
+        for (int i = 0; i < 100; i++) {
+            validator.validate(-1);
+        }
+        assertThat(validator.validate(-13).getErrors(), contains("unlucky", "not positive", "not even"));
+    }
+
+    @Test
+    public void shouldReportErrorsInComposedOrderForMoreThanSixtyFourRules() throws Exception {
+        Validator<Integer, String> validator = Validator.from(i -> i > 0, "rule 0");
+        for (int rule = 1; rule < 100; rule++) {
+            int bound = rule;
+            validator = validator.compose(Validator.from(i -> i > bound, "rule " + rule));
+        }
+        AdaptiveValidator<Integer, String> adaptive = validator.adaptive(1, 5);
+        for (int i = 0; i < 50; i++) {
+            adaptive.validate(i);
+        }
+        assertThat(adaptive.validate(98).getErrors(), contains("rule 98", "rule 99"));
+    }
+
+    @Test
+    public void shouldEvaluateASharedRuleOnceButReportItWhereverComposed() throws Exception {
+        AtomicInteger evaluations = new AtomicInteger();
+        Validator<Integer, String> counted = Validator.from(i -> evaluations.incrementAndGet() > 0 && i > 0, "not positive");
+        Validator<Integer, String> validator = counted.compose(even).compose(counted);
+        AdaptiveValidator<Integer, String> adaptive = validator.adaptive(1, 1);
+
+        assertThat(adaptive.validate(-1), is(validator.validate(-1)));
+        assertThat(adaptive.validate(-1).getErrors(), contains("not positive", "not even", "not positive"));
+        assertThat(evaluations.get(), is(3));
+    }
+
+    @Test
+    public void shouldCapErrorsLikeTheValidatorItWasCreatedFrom() throws Exception {
+        Validator<Integer, String> validator = slow.compose(positive).compose(even).capErrors(2);
+        AdaptiveValidator<Integer, String> adaptive = validator.adaptive(1, 1);
+        for (int i = 0; i < 10; i++) {
+            adaptive.validate(-1);
+        }
+
+        Validation<Integer, String> validation = adaptive.validate(-13);
+        assertThat(validation, is(validator.validate(-13)));
+        assertThat(validation.getErrors(), contains("unlucky", "not positive"));
+        assertThat(validation.errorCount(), is(3L));
+        assertThat(validation.isTruncated(), is(true));
+    }
+}
@@ -0,0 +1,136 @@
+package co.unruly.util;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import com.sun.management.ThreadMXBean;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks the bytes allocated by calls on the hot path stay within their budgets, averaged over many calls after
+ * warming up. Budgets assume compressed references and class pointers, the default on heaps under 32GB.
+ */
+public class AllocationBudgetTest {
+    private static final int WARM_UP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 100_000;
+    // Allocated while measuring rather than by the calls measured, however many there are
+    private static final long MEASUREMENT_OVERHEAD = 1024;
+
+    // An object header plus a single compressed reference
+    private static final long VALIDATION = 16;
+    // A rope concatenating two others, with its size and cached list
+    private static final long CONCAT = 32;
+    // A rope of the errors of masked rules, with the mask, size and cached list
+    private static final long MASKED = 40;
+    // A set of up to 128 bits, with the array of two longs holding them
+    private static final long BIT_SET = 24 + 32;
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static volatile Object result;
+
+    @BeforeClass
+    public static void requireAllocationCounting() {
+        HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        assumeTrue(THREADS.isThreadAllocatedMemorySupported());
+        assumeTrue("true".equals(hotSpot.getVMOption("UseCompressedOops").getValue()));
+        assumeTrue("true".equals(hotSpot.getVMOption("UseCompressedClassPointers").getValue()));
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private final Validator<Integer, String> validator = Validator.<Integer, String>from(i -> i % 2 == 0, "not even")
+            .compose(Validator.from(i -> i < 100, "not small"));
+
+    @Test
+    public void shouldAllocateOnlyTheValidationsWhenMappingASuccess() throws Exception {
+        assertWithinBudget(() -> Validation.success("yay").map(String::length), 2 * VALIDATION);
+    }
+
+    @Test
+    public void shouldAllocateNothingWhenMappingAFailure() throws Exception {
+        Validation<String, String> failure = Validation.failure("nope");
+        assertWithinBudget(() -> failure.map(String::length).filter(i -> i > 0), 0);
+    }
+
+    @Test
+    public void shouldAllocateOnlyTheSuccessWhenValidatorPasses() throws Exception {
+        assertWithinBudget(() -> validator.validate(2), VALIDATION);
+    }
+
+    @Test
+    public void shouldAllocateOnlyTheSuccessWhenAValidatorOfManyRulesPasses() throws Exception {
+        Validator<Integer, String> many = manyRules(100);
+        assertWithinBudget(() -> many.validate(2), VALIDATION);
+    }
+
+    @Test
+    public void shouldAllocateOnlyTheFailureSetsWhenAValidatorOfManyRulesFails() throws Exception {
+        Validator<Integer, String> many = manyRules(100);
+        // The set of failing rules, which the rope of their errors keeps
+        assertWithinBudget(() -> many.validate(3), VALIDATION + MASKED + BIT_SET);
+    }
+
+    @Test
+    public void shouldNotAllocateErrorListsWhenValidatorFails() throws Exception {
+        assertWithinBudget(() -> validator.validate(101), VALIDATION + MASKED);
+    }
+
+    @Test
+    public void shouldAllocateNothingWhenTestingAValue() throws Exception {
+        assertWithinBudget(() -> validator.test(101), 0);
+    }
+
+    @Test
+    public void shouldAllocateNothingWhenValidatingIntoAReusedSink() throws Exception {
+        ErrorSink<String> sink = new ErrorSink<>();
+        assertWithinBudget(() -> {
+            sink.reset();
+            return validator.validateInto(101, sink);
+        }, 0);
+    }
+
+    @Test
+    public void shouldAllocateAConstantAmountPerComposedFailure() throws Exception {
+        int count = 10;
+        @SuppressWarnings("unchecked")
+        Validation<Integer, String>[] failures = (Validation<Integer, String>[]) new Validation<?, ?>[count];
+        for (int i = 0; i < count; i++) {
+            failures[i] = Validation.failure("error " + i);
+        }
+        assertWithinBudget(() -> {
+            Validation<Integer, String> composed = failures[0];
+            for (int i = 1; i < count; i++) {
+                composed = composed.compose(failures[i], Integer::sum);
+            }
+            return composed;
+        }, (count - 1) * (VALIDATION + CONCAT));
+    }
+
+    // Rules beyond the 64 of a mask, all checking the value is even, each with its own error
+    private static Validator<Integer, String> manyRules(int count) {
+        Validator<Integer, String> many = Validator.from(i -> i % 2 == 0, "odd 0");
+        for (int i = 1; i < count; i++) {
+            many = many.compose(Validator.from(n -> n % 2 == 0, "odd " + i));
+        }
+        return many;
+    }
+
+    private static void assertWithinBudget(Supplier<?> operation, long budget) {
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            result = operation.get();
+        }
+        long thread = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            result = operation.get();
+        }
+        long allocated = THREADS.getThreadAllocatedBytes(thread) - before;
+        assertThat("bytes allocated over " + MEASURED_CALLS + " calls", allocated, lessThanOrEqualTo(budget * MEASURED_CALLS + MEASUREMENT_OVERHEAD));
+    }
+}
@@ -0,0 +1,134 @@
+package co.unruly.util;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static co.unruly.matchers.ValidationMatchers.*;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class AsyncValidatorTest {
+
+    private final CompletableFuture<Boolean> firstLookup = new CompletableFuture<>();
+    private final CompletableFuture<Boolean> secondLookup = new CompletableFuture<>();
+
+    private final AsyncValidator<String, String> first = AsyncValidator.from(s -> firstLookup, "first failed");
+    private final AsyncValidator<String, String> second = AsyncValidator.from(s -> secondLookup, "second failed");
+    private final Validator<String, String> notEmpty = Validator.from(s -> !s.isEmpty(), "empty");
+
+    @Test
+    public void shouldStartAllAsynchronousRulesBeforeAnyComplete() throws Exception {
+        CompletableFuture<Validation<String, String>> validation = first.compose(second).validate("hello").toCompletableFuture();
+        assertThat(validation.isDone(), is(false));
+
+        secondLookup.complete(true);
+        assertThat(validation.isDone(), is(false));
+
+        firstLookup.complete(true);
+        assertThat(validation.get(1, TimeUnit.SECONDS), hasValue("hello"));
+    }
+
+    @Test
+    public void shouldReportErrorsInComposedOrderMixingSynchronousRules() throws Exception {
+        CompletableFuture<Validation<String, String>> validation = first.compose(notEmpty).compose(second).validate("").toCompletableFuture();
+        secondLookup.complete(false);
+        firstLookup.complete(false);
+        assertThat(validation.get(1, TimeUnit.SECONDS).getErrors(), contains("first failed", "empty", "second failed"));
+    }
+
+    @Test
+    public void shouldCompleteImmediatelyWithOnlySynchronousRules() throws Exception {
+        CompletableFuture<Validation<String, String>> validation = AsyncValidator.from(notEmpty).validate("").toCompletableFuture();
+        assertThat(validation.getNow(null), hasErrorValue("empty"));
+    }
+
+    @Test
+    public void shouldFailWithTheTimeoutErrorIfARuleTakesTooLong() throws Exception {
+        AsyncValidator<String, String> slow = AsyncValidator.from(s -> new CompletableFuture<>(), "slow failed", Duration.ofMillis(10), "timed out");
+        CompletableFuture<Validation<String, String>> validation = slow.compose(second).validate("hello").toCompletableFuture();
+        secondLookup.complete(true);
+        assertThat(validation.get(1, TimeUnit.SECONDS), hasErrorValue("timed out"));
+    }
+
+    @Test
+    public void shouldNotTimeOutARuleWhichCompletesInTime() throws Exception {
+        AsyncValidator<String, String> quick = AsyncValidator.from(s -> CompletableFuture.completedFuture(false), "quick failed", Duration.ofSeconds(10), "timed out");
+        assertThat(quick.validate("hello").toCompletableFuture().get(1, TimeUnit.SECONDS), hasErrorValue("quick failed"));
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyIfARuleDoes() throws Exception {
+        CompletableFuture<Validation<String, String>> validation = first.compose(second).validate("hello").toCompletableFuture();
+        firstLookup.completeExceptionally(new IllegalStateException("database down"));
+        secondLookup.complete(true);
+        try {
+            validation.join();
+            fail("expected validation to complete exceptionally");
+        } catch (CompletionException e) {
+            assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        }
+    }
+
+    @Test
+    public void shouldKeepTheCapAndCountOfComposedValidators() throws Exception {
+        Validator<String, String> capped = notEmpty
+                .compose(Validator.from(s -> s.length() > 3, "too short"))
+                .compose(Validator.from(s -> s.startsWith("a"), "no a"))
+                .capErrors(1);
+        CompletableFuture<Validation<String, String>> validation = first.compose(capped).compose(second).validate("").toCompletableFuture();
+        firstLookup.complete(false);
+        secondLookup.complete(false);
+
+        Validation<String, String> completed = validation.get(1, TimeUnit.SECONDS);
+        assertThat(completed.getErrors(), contains("first failed", "empty", "second failed"));
+        assertThat(completed.errorCount(), is(5L));
+        assertThat(completed.isTruncated(), is(true));
+        assertThat(AsyncValidator.from(capped).validate("").toCompletableFuture().getNow(null), is(capped.validate("")));
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyIfARuleCompletesWithNull() throws Exception {
+        CompletableFuture<Boolean> lookup = new CompletableFuture<>();
+        AsyncValidator<String, String> untimed = AsyncValidator.from(s -> lookup, "failed");
+        AsyncValidator<String, String> timed = AsyncValidator.from(s -> lookup, "failed", Duration.ofSeconds(10), "timed out");
+        CompletableFuture<Validation<String, String>> untimedValidation = untimed.validate("hello").toCompletableFuture();
+        CompletableFuture<Validation<String, String>> timedValidation = timed.validate("hello").toCompletableFuture();
+
+        lookup.complete(null);
+
+        for (CompletableFuture<Validation<String, String>> validation : Arrays.asList(untimedValidation, timedValidation)) {
+            try {
+                validation.get(1, TimeUnit.SECONDS);
+                fail("expected validation to complete exceptionally");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(NullPointerException.class));
+            }
+        }
+    }
+
+    @Test
+    public void shouldNotCompleteOnTheTimeoutThread() throws Exception {
+        ScheduledExecutorService timeouts = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "timeouts"));
+        try {
+            AsyncValidator<String, String> slow = AsyncValidator.from(s -> new CompletableFuture<>(), "slow failed", Duration.ofMillis(10), "timed out");
+            CompletableFuture<String> completedOn = slow.validate("hello", timeouts).toCompletableFuture()
+                    .thenApply(validation -> Thread.currentThread().getName());
+
+            assertThat(completedOn.get(1, TimeUnit.SECONDS), not("timeouts"));
+        } finally {
+            timeouts.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package co.unruly.util;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class BatchValidationTest {
+
+    private final Validator<Integer, String> validator = Validator.<Integer, String>from(i -> i % 3 != 0, "multiple of three")
+            .compose(Validator.from(i -> i % 5 != 0, "multiple of five"));
+
+    @Test
+    public void shouldCountSuccessesAndKeepErrorsOfFailures() throws Exception {
+        BatchValidation<String> batch = validator.validateAll(asList(1, 3, 4, 15, 7));
+        assertThat(batch.size(), is(5));
+        assertThat(batch.successCount(), is(3));
+        assertThat(batch.failureCount(), is(2));
+        assertThat(batch.failingIndices(), is(new int[] { 1, 3 }));
+        assertThat(batch.getErrors(1), contains("multiple of three"));
+        assertThat(batch.getErrors(3), contains("multiple of three", "multiple of five"));
+        assertThat(batch.getErrors(0), is(empty()));
+    }
+
+    @Test
+    public void shouldBeASuccessIfEveryValuePasses() throws Exception {
+        BatchValidation<String> batch = validator.validateAll(Stream.of(1, 2, 4));
+        assertThat(batch.isSuccess(), is(true));
+        assertThat(batch.successCount(), is(3));
+    }
+
+    @Test
+    public void shouldGiveTheSameResultForParallelStreams() throws Exception {
+        List<Integer> values = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        BatchValidation<String> sequential = validator.validateAll(values);
+        BatchValidation<String> parallel = validator.validateAll(values.parallelStream());
+
+        assertThat(parallel.size(), is(sequential.size()));
+        assertThat(parallel.failingIndices(), is(sequential.failingIndices()));
+        for (int index : sequential.failingIndices()) {
+            assertThat(parallel.getErrors(index), is(sequential.getErrors(index)));
+        }
+        assertThat(parallel.getErrors(99_990), contains("multiple of three", "multiple of five"));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldRejectIndicesOutsideTheBatch() throws Exception {
+        validator.validateAll(asList(1, 2)).getErrors(2);
+    }
+
+    @Test
+    public void shouldKeepNoMoreErrorsThanTheCapButCountThemAll() throws Exception {
+        List<Integer> values = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        Validator<Integer, String> capped = validator.capErrors(1);
+
+        for (BatchValidation<String> batch : asList(capped.validateAll(values), capped.validateAll(values.parallelStream()))) {
+            assertThat(batch.getErrors(15), contains("multiple of three"));
+            assertThat(batch.errorCount(15), is(2L));
+            assertThat(batch.errorCount(3), is(1L));
+            assertThat(batch.errorCount(1), is(0L));
+        }
+    }
+}
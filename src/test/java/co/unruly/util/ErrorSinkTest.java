@@ -0,0 +1,126 @@
+package co.unruly.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static co.unruly.matchers.ValidationMatchers.*;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ErrorSinkTest {
+
+    private final Validator<Integer, String> even = Validator.from(i -> i % 2 == 0, "not even");
+    private final Validator<Integer, String> small = Validator.from(i -> i < 100, "not small");
+    private final Validator<Integer, String> validator = even.compose(small);
+
+    @Test
+    public void shouldTestWhetherAValuePassesEveryRule() throws Exception {
+        assertThat(validator.test(2), is(true));
+        assertThat(validator.test(101), is(false));
+        assertThat(validator.test(100), is(false));
+    }
+
+    @Test
+    public void shouldStopTestingAtTheFirstFailingRule() throws Exception {
+        AtomicInteger evaluations = new AtomicInteger();
+        Validator<Integer, String> counted = even.compose(Validator.from(i -> evaluations.incrementAndGet() > 0, "never"));
+
+        counted.test(1);
+
+        assertThat(evaluations.get(), is(0));
+    }
+
+    @Test
+    public void shouldReportErrorsIntoTheSink() throws Exception {
+        ErrorSink<String> sink = new ErrorSink<>();
+
+        assertThat(validator.validateInto(2, sink), is(true));
+        assertThat(sink.isEmpty(), is(true));
+        assertThat(validator.validateInto(101, sink), is(false));
+        assertThat(sink.size(), is(2));
+        assertThat(sink.get(0), is("not even"));
+        assertThat(sink.get(1), is("not small"));
+    }
+
+    @Test
+    public void shouldReportErrorsIntoTheSinkInEachMode() throws Exception {
+        ErrorSink<String> sink = new ErrorSink<>();
+        validator.failFast().validateInto(101, sink);
+
+        assertThat(sink.size(), is(1));
+        assertThat(sink.get(0), is("not even"));
+    }
+
+    @Test
+    public void shouldReuseTheSinkOnceReset() throws Exception {
+        ErrorSink<String> sink = new ErrorSink<>(1);
+        validator.validateInto(101, sink);
+        sink.reset();
+        validator.validateInto(100, sink);
+
+        assertThat(sink.size(), is(1));
+        assertThat(sink.get(0), is("not small"));
+    }
+
+    @Test
+    public void shouldReportSharedRulesIntoTheSinkAmongMoreThanSixtyFourRules() throws Exception {
+        Validator<Integer, String> many = small;
+        for (int i = 0; i < 70; i++) {
+            many = many.compose(even);
+        }
+        ErrorSink<String> sink = new ErrorSink<>();
+
+        assertThat(many.validateInto(101, sink), is(false));
+        assertThat(sink.size(), is(71));
+    }
+
+    @Test
+    public void shouldMakeAFailureFromTheSinkTakingOverItsErrors() throws Exception {
+        ErrorSink<String> sink = new ErrorSink<>();
+        validator.validateInto(101, sink);
+
+        Validation<Integer, String> validation = Validation.failureFrom(sink);
+
+        assertThat(validation, isFailureNotSuccess());
+        assertThat(validation.getErrors(), contains("not even", "not small"));
+        assertThat(sink.isEmpty(), is(true));
+
+        validator.validateInto(100, sink);
+        assertThat(validation.getErrors(), contains("not even", "not small"));
+        assertThat(sink.get(0), is("not small"));
+    }
+
+    @Test
+    public void shouldCountErrorsBeyondTheCapWithoutKeepingThem() throws Exception {
+        Validator<Integer, String> capped = validator.capErrors(1);
+        ErrorSink<String> sink = new ErrorSink<>();
+
+        assertThat(capped.validateInto(101, sink), is(false));
+        assertThat(sink.size(), is(1));
+        assertThat(sink.errorCount(), is(2L));
+        assertThat(sink.isTruncated(), is(true));
+
+        Validation<Integer, String> validation = Validation.failureFrom(sink);
+        assertThat(validation, is(capped.validate(101)));
+        assertThat(validation.errorCount(), is(2L));
+        assertThat(sink.errorCount(), is(0L));
+    }
+
+    @Test
+    public void shouldCountErrorsBeyondTheCapAmongMoreThanSixtyFourSharedRules() throws Exception {
+        Validator<Integer, String> many = small;
+        for (int i = 0; i < 70; i++) {
+            many = many.compose(even);
+        }
+        ErrorSink<String> sink = new ErrorSink<>();
+
+        many.capErrors(5).validateInto(101, sink);
+
+        assertThat(sink.size(), is(5));
+        assertThat(sink.errorCount(), is(71L));
+        sink.reset();
+        assertThat(sink.isTruncated(), is(false));
+    }
+}
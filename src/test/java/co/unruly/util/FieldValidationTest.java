@@ -0,0 +1,136 @@
+package co.unruly.util;
+
+import org.junit.Test;
+
+import static co.unruly.matchers.ValidationMatchers.*;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class FieldValidationTest {
+
+    public static class Address {
+        private final String postcode;
+
+        public Address(String postcode) {
+            this.postcode = postcode;
+        }
+
+        public String getPostcode() {
+            return postcode;
+        }
+    }
+
+    public static class Person {
+        private final String name;
+        private final int age;
+        private final boolean active;
+        private final Address address;
+
+        public Person(String name, int age, boolean active, Address address) {
+            this.name = name;
+            this.age = age;
+            this.active = active;
+            this.address = address;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public Address address() {
+            return address;
+        }
+    }
+
+    static class Hidden {
+        public String getName() {
+            return "hidden";
+        }
+    }
+
+    private final Validator<String, String> notEmpty = Validator.from(s -> !s.isEmpty(), "is empty");
+    private final Validator<Integer, String> adult = Validator.from(i -> i >= 18, "is under 18");
+    private final Validator<Boolean, String> isTrue = Validator.from(b -> b, "is not true");
+    private final Validator<Address, FieldError<String>> address = Validator.field(Address::getPostcode, "postcode", notEmpty);
+
+    private final Person valid = new Person("Ada", 36, true, new Address("N1 9GU"));
+    private final Person invalid = new Person("", 12, false, new Address(""));
+
+    @Test
+    public void shouldTagErrorsWithTheirField() throws Exception {
+        Validator<Person, FieldError<String>> validator = Validator.field(Person::getName, "name", notEmpty)
+                .compose(Validator.field(Person::getAge, "age", adult));
+
+        assertThat(validator.validate(valid), isSuccessNotFailure());
+        assertThat(validator.validate(invalid).getErrors(), is(asList(
+                new FieldError<>("name", "is empty"),
+                new FieldError<>("age", "is under 18"))));
+    }
+
+    @Test
+    public void shouldPrefixThePathsOfNestedFields() throws Exception {
+        Validator<Person, FieldError<String>> validator = Validator.nested(Person::address, "address", address);
+
+        assertThat(validator.validate(invalid).getErrors(), is(asList(new FieldError<>("address.postcode", "is empty"))));
+    }
+
+    @Test
+    public void shouldFindGettersOfProperties() throws Exception {
+        Validator<Person, FieldError<String>> validator = Validator.property(Person.class, "name", notEmpty)
+                .compose(Validator.property(Person.class, "age", adult))
+                .compose(Validator.property(Person.class, "active", isTrue))
+                .compose(Validator.nested(Person::address, "address", Validator.property(Address.class, "postcode", notEmpty)));
+
+        assertThat(validator.validate(valid), isSuccessNotFailure());
+        assertThat(validator.validate(invalid).getErrors(), is(asList(
+                new FieldError<>("name", "is empty"),
+                new FieldError<>("age", "is under 18"),
+                new FieldError<>("active", "is not true"),
+                new FieldError<>("address.postcode", "is empty"))));
+    }
+
+    @Test
+    public void shouldFindGettersNamedAfterTheirProperty() throws Exception {
+        Validator<Person, FieldError<String>> validator = Validator.property(Person.class, "address",
+                Validator.<Address, String>from(a -> a.getPostcode().startsWith("N"), "is not in the north"));
+
+        assertThat(validator.validate(valid), isSuccessNotFailure());
+    }
+
+    @Test
+    public void shouldFindGettersOfClassesWhichAreNotPublic() throws Exception {
+        Validator<Hidden, FieldError<String>> validator = Validator.property(Hidden.class, "name",
+                Validator.<String, String>from(s -> s.equals("hidden"), "is not hidden"));
+
+        assertThat(validator.validate(new Hidden()), isSuccessNotFailure());
+    }
+
+    @Test
+    public void shouldCacheGettersPerClass() throws Exception {
+        assertThat(Accessors.getter(Person.class, "name") == Accessors.getter(Person.class, "name"), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectPropertiesWithoutAGetter() throws Exception {
+        Validator.property(Person.class, "height", adult);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectAnEmptyPropertyName() throws Exception {
+        Validator.property(Person.class, "", adult);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectANullPropertyName() throws Exception {
+        Validator.property(Person.class, null, adult);
+    }
+}
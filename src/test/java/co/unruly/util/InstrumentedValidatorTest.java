@@ -0,0 +1,96 @@
+package co.unruly.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static co.unruly.matchers.ValidationMatchers.*;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class InstrumentedValidatorTest {
+
+    private final Validator<Integer, String> validator = Validator.<Integer, String>from("even", i -> i % 2 == 0, "not even")
+            .compose(Validator.from(i -> i < 100, "not small"));
+
+    @Test
+    public void shouldValidateLikeTheUninstrumentedValidator() throws Exception {
+        InstrumentedValidator<Integer, String> instrumented = validator.instrumented();
+
+        assertThat(instrumented.validate(2), isSuccessNotFailure());
+        assertThat(instrumented.validate(101).getErrors(), contains("not even", "not small"));
+        assertThat(validator.failFast().instrumented().validate(101).getErrors(), contains("not even"));
+    }
+
+    @Test
+    public void shouldCountEvaluationsAndFailuresOfEachRule() throws Exception {
+        InstrumentedValidator<Integer, String> instrumented = validator.instrumented();
+        IntStream.range(0, 200).parallel().forEach(instrumented::validate);
+
+        List<RuleStats> stats = instrumented.snapshot();
+
+        assertThat(stats.get(0).name(), is("even"));
+        assertThat(stats.get(0).evaluationCount(), is(200L));
+        assertThat(stats.get(0).failureCount(), is(100L));
+        assertThat(stats.get(0).failureRate(), is(0.5));
+        assertThat(stats.get(1).name(), is("not small"));
+        assertThat(stats.get(1).failureCount(), is(100L));
+    }
+
+    @Test
+    public void shouldOnlyCountRulesWhichAreEvaluated() throws Exception {
+        InstrumentedValidator<Integer, String> instrumented = validator.failFast().instrumented();
+        instrumented.validate(101);
+
+        assertThat(instrumented.snapshot().get(1).evaluationCount(), is(0L));
+    }
+
+    @Test
+    public void shouldRecordALatencyForEachEvaluation() throws Exception {
+        InstrumentedValidator<Integer, String> instrumented = validator.instrumented();
+        for (int i = 0; i < 10; i++) {
+            instrumented.validate(i);
+        }
+
+        RuleStats stats = instrumented.snapshot().get(0);
+
+        assertThat(Arrays.stream(stats.latencyHistogram()).sum(), is(10L));
+        assertThat(stats.latencyPercentileNanos(1.0) > 0, is(true));
+    }
+
+    @Test
+    public void shouldEvaluateASharedRuleOnce() throws Exception {
+        Validator<Integer, String> even = Validator.from("even", i -> i % 2 == 0, "not even");
+        InstrumentedValidator<Integer, String> instrumented = even.compose(validator).compose(even).instrumented();
+
+        assertThat(instrumented.validate(101).getErrors(), contains("not even", "not even", "not small", "not even"));
+        List<RuleStats> stats = instrumented.snapshot();
+        assertThat(stats.get(0).evaluationCount(), is(1L));
+        assertThat(stats.get(3).evaluationCount(), is(0L));
+    }
+
+    @Test
+    public void shouldCapErrorsLikeTheUninstrumentedValidator() throws Exception {
+        Validator<Integer, String> capped = validator.capErrors(1);
+
+        Validation<Integer, String> validation = capped.instrumented().validate(101);
+
+        assertThat(validation, is(capped.validate(101)));
+        assertThat(validation.getErrors(), contains("not even"));
+        assertThat(validation.errorCount(), is(2L));
+        assertThat(validation.isTruncated(), is(true));
+    }
+
+    @Test
+    public void shouldBucketLatenciesByPowersOfTwo() throws Exception {
+        assertThat(InstrumentedValidator.bucket(0), is(0));
+        assertThat(InstrumentedValidator.bucket(1), is(0));
+        assertThat(InstrumentedValidator.bucket(2), is(1));
+        assertThat(InstrumentedValidator.bucket(1023), is(9));
+        assertThat(InstrumentedValidator.bucket(1024), is(10));
+        assertThat(InstrumentedValidator.bucket(Long.MAX_VALUE), is(62));
+    }
+}
@@ -0,0 +1,125 @@
+package co.unruly.util;
+
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static co.unruly.matchers.ValidationMatchers.*;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LazyValidationTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    public void shouldNotEvaluateUntilAskedForTheOutcome() throws Exception {
+        LazyValidation<Integer, String> lazy = Validation.<Integer, String>lazy(() -> Validation.success(calls.incrementAndGet()))
+                .map(i -> i + calls.incrementAndGet())
+                .filter(i -> calls.incrementAndGet() > 0);
+        assertThat(calls.get(), is(0));
+
+        assertThat(lazy.isSuccess(), is(true));
+        assertThat(lazy.get(), is(3));
+        assertThat(calls.get(), is(3));
+    }
+
+    @Test
+    public void shouldEvaluateOnlyOnce() throws Exception {
+        LazyValidation<Integer, String> lazy = Validation.<Integer, String>lazy(() -> Validation.success(calls.incrementAndGet())).map(i -> i * 10);
+        assertThat(lazy.get(), is(10));
+        assertThat(lazy.getErrors(), is(empty()));
+        assertThat(lazy.toOptional(), is(Optional.of(10)));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void shouldGiveTheSameOutcomeAsAnEagerChain() throws Exception {
+        Validation<Integer, String> eager = Validation.<Integer, String>success(3)
+                .map(i -> i * 2)
+                .flatMap(i -> i > 5 ? Validation.failure("too big") : Validation.success(i))
+                .map(i -> i + 1);
+        LazyValidation<Integer, String> lazy = Validation.<Integer, String>success(3).deferred()
+                .map(i -> i * 2)
+                .flatMap(i -> i > 5 ? Validation.<Integer, String>failure("too big") : Validation.success(i))
+                .map(i -> i + 1);
+        assertThat(lazy.toValidation(), is(eager));
+        assertThat(lazy.getErrors(), contains("too big"));
+    }
+
+    @Test
+    public void shouldSkipTheRestOfTheChainOnceFiltered() throws Exception {
+        LazyValidation<Integer, String> lazy = Validation.<Integer, String>success(3).deferred()
+                .filter(i -> i > 3)
+                .map(i -> calls.incrementAndGet());
+        assertThat(lazy.toValidation(), isFailureNotSuccess());
+        assertThat(lazy.getErrors(), is(empty()));
+        assertThat(calls.get(), is(0));
+    }
+
+    @Test
+    public void shouldNotApplyTheChainToAFailure() throws Exception {
+        LazyValidation<Integer, String> lazy = Validation.<Integer, String>failure("nope").deferred().map(i -> calls.incrementAndGet());
+        assertThat(lazy.toValidation(), hasErrorValue("nope"));
+        assertThat(calls.get(), is(0));
+    }
+
+    @Test
+    public void shouldChainFromAnAlreadyEvaluatedValidation() throws Exception {
+        LazyValidation<Integer, String> lazy = Validation.<Integer, String>lazy(() -> Validation.success(calls.incrementAndGet()));
+        assertThat(lazy.get(), is(1));
+        assertThat(lazy.map(i -> i + 1).get(), is(2));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void shouldShareTheOutcomeBetweenBranches() throws Exception {
+        AtomicInteger steps = new AtomicInteger();
+        LazyValidation<Integer, String> parent = Validation.<Integer, String>lazy(() -> Validation.success(calls.incrementAndGet()))
+                .map(i -> i + steps.incrementAndGet() * 0);
+        LazyValidation<Integer, String> doubled = parent.map(i -> i * 2);
+        LazyValidation<Integer, String> negated = parent.map(i -> -i);
+
+        assertThat(doubled.get(), is(2));
+        assertThat(negated.get(), is(-1));
+        assertThat(parent.get(), is(1));
+        assertThat(calls.get(), is(1));
+
+        assertThat(parent.map(i -> i + 1).get(), is(2));
+        assertThat(steps.get(), is(3));
+    }
+
+    @Test
+    public void shouldEvaluateLongChainsWithoutOverflowingTheStack() throws Exception {
+        LazyValidation<Integer, String> lazy = Validation.<Integer, String>success(0).deferred();
+        for (int i = 0; i < 20_000; i++) {
+            lazy = lazy.map(n -> n + 1);
+        }
+        assertThat(lazy.get(), is(20_000));
+    }
+
+    @Test
+    public void shouldEvaluateOnceWhenAskedFromManyThreads() throws Exception {
+        LazyValidation<Integer, String> lazy = Validation.<Integer, String>lazy(() -> Validation.success(calls.incrementAndGet())).map(i -> i + 1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                start.await();
+                return lazy.get();
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        assertThat(calls.get(), is(1));
+        assertThat(lazy.get(), is(2));
+    }
+}
@@ -0,0 +1,120 @@
+package co.unruly.util;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static co.unruly.matchers.ValidationMatchers.*;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MemoizingValidatorTest {
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private final Validator<String, String> expensive = Validator.from(s -> evaluations.incrementAndGet() > 0 && !s.contains("@@"), "bad email");
+    private final Validator<String, String> cheap = Validator.from(s -> !s.isEmpty(), "empty");
+
+    @Test
+    public void shouldOnlyRunTheRulesOncePerValue() throws Exception {
+        MemoizingValidator<String, String> validator = expensive.memoized(10);
+        assertThat(validator.validate("a@b"), hasValue("a@b"));
+        assertThat(validator.validate("a@b"), hasValue("a@b"));
+        assertThat(validator.validate("a@@b"), hasErrorValue("bad email"));
+        assertThat(validator.validate("a@@b"), hasErrorValue("bad email"));
+        assertThat(evaluations.get(), is(2));
+
+        CacheStats stats = validator.stats();
+        assertThat(stats.hitCount(), is(2L));
+        assertThat(stats.missCount(), is(2L));
+        assertThat(stats.hitRate(), closeTo(0.5, 0.001));
+    }
+
+    @Test
+    public void shouldEvictTheLeastRecentlyUsedValue() throws Exception {
+        MemoizingValidator<String, String> validator = expensive.memoized(2);
+        validator.validate("a");
+        validator.validate("b");
+        validator.validate("a");
+        validator.validate("c");
+        assertThat(validator.stats().evictionCount(), is(1L));
+
+        evaluations.set(0);
+        validator.validate("a");
+        assertThat(evaluations.get(), is(0));
+        validator.validate("b");
+        assertThat(evaluations.get(), is(1));
+    }
+
+    @Test
+    public void shouldRevalidateAfterTheTimeToLive() throws Exception {
+        AtomicLong now = new AtomicLong();
+        MemoizingValidator<String, String> validator = expensive.memoized(10, Duration.ofSeconds(1), now::get);
+        validator.validate("a");
+        now.set(Duration.ofMillis(999).toNanos());
+        validator.validate("a");
+        assertThat(evaluations.get(), is(1));
+
+        now.set(Duration.ofSeconds(1).toNanos());
+        validator.validate("a");
+        assertThat(evaluations.get(), is(2));
+        assertThat(validator.stats().evictionCount(), is(1L));
+    }
+
+    @Test
+    public void shouldMemoizeOnlyTheChosenRules() throws Exception {
+        AtomicInteger cheapEvaluations = new AtomicInteger();
+        Validator<String, String> counted = Validator.from(s -> cheapEvaluations.incrementAndGet() > 0 && !s.isEmpty(), "empty");
+        Validator<String, String> validator = expensive.memoizingRules(10).compose(counted).compose(cheap);
+
+        assertThat(validator.validate("a@@b").getErrors(), contains("bad email"));
+        assertThat(validator.validate("a@@b").getErrors(), contains("bad email"));
+        assertThat(evaluations.get(), is(1));
+        assertThat(cheapEvaluations.get(), is(2));
+    }
+
+    @Test
+    public void shouldSumTheCacheStatsOfMemoizedRulesOnceComposed() throws Exception {
+        Validator<String, String> memoized = expensive.memoizingRules(10);
+        Validator<String, String> validator = memoized.compose(cheap).compose(memoized);
+        validator.validate("a@b");
+        validator.validate("a@b");
+        validator.validate("c");
+
+        CacheStats stats = validator.ruleCacheStats();
+        assertThat(stats.hitCount(), is(1L));
+        assertThat(stats.missCount(), is(2L));
+        assertThat(cheap.ruleCacheStats().requestCount(), is(0L));
+    }
+
+    @Test
+    public void shouldValidateNullValues() throws Exception {
+        Validator<String, String> notNull = Validator.from(s -> evaluations.incrementAndGet() > 0 && s != null, "null");
+        MemoizingValidator<String, String> memoized = notNull.memoized(10);
+        Validator<String, String> memoizedRules = notNull.memoizingRules(10);
+
+        assertThat(memoized.validate(null), hasErrorValue("null"));
+        assertThat(memoized.validate(null), hasErrorValue("null"));
+        assertThat(memoizedRules.validate(null), hasErrorValue("null"));
+        assertThat(memoizedRules.validate(null), hasErrorValue("null"));
+        assertThat(evaluations.get(), is(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectAnEmptyCache() throws Exception {
+        expensive.memoized(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectANegativeTimeToLive() throws Exception {
+        expensive.memoized(10, Duration.ofSeconds(-1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectANegativeTimeToLiveForRules() throws Exception {
+        expensive.memoizingRules(10, Duration.ofSeconds(-1));
+    }
+}
@@ -0,0 +1,129 @@
+package co.unruly.util;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+
+import static co.unruly.matchers.ValidationMatchers.*;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PrimitiveValidationTest {
+
+    @Test
+    public void shouldMapFlatMapAndFilterASuccessfulInt() throws Exception {
+        IntValidation<String> validation = IntValidation.<String>success(3)
+                .map(i -> i * 2)
+                .flatMap(i -> IntValidation.success(i + 1))
+                .filter(i -> i == 7);
+        assertThat(validation.isSuccess(), is(true));
+        assertThat(validation.getAsInt(), is(7));
+        assertThat(validation.getErrors(), is(empty()));
+    }
+
+    @Test
+    public void shouldLeaveAnIntFailureUnchanged() throws Exception {
+        IntValidation<String> failure = IntValidation.failure("nope");
+        assertThat(failure.map(i -> i + 1).flatMap(IntValidation::success).filter(i -> true), is(failure));
+        assertThat(failure.getErrors(), contains("nope"));
+        assertThat(failure.orElse(5), is(5));
+        assertThat(failure.toOptional(), is(OptionalInt.empty()));
+    }
+
+    @Test
+    public void shouldFilterAnIntIntoAFailureWithoutErrors() throws Exception {
+        IntValidation<String> filtered = IntValidation.<String>success(3).filter(i -> i > 3);
+        assertThat(filtered.isFailure(), is(true));
+        assertThat(filtered.getErrors(), is(empty()));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowWhenGettingTheValueOfAnIntFailure() throws Exception {
+        IntValidation.failure("nope").getAsInt();
+    }
+
+    @Test
+    public void shouldConvertBetweenIntAndGenericValidations() throws Exception {
+        assertThat(IntValidation.from(Validation.<Integer, String>success(3)).boxed(), hasValue(3));
+        assertThat(IntValidation.from(Validation.<Integer, String>failure(asList("a", "b"))).boxed(), hasErrorValue("a", "b"));
+        assertThat(IntValidation.<String>success(3).mapToObj(i -> i + " cows"), hasValue("3 cows"));
+    }
+
+    @Test
+    public void shouldMapFlatMapAndFilterLongsAndDoubles() throws Exception {
+        LongValidation<String> longs = LongValidation.<String>success(3L).map(l -> l * 2).filter(l -> l > 5);
+        assertThat(longs.getAsLong(), is(6L));
+        DoubleValidation<String> doubles = DoubleValidation.<String>success(1.5).map(d -> d * 2).flatMap(DoubleValidation::success);
+        assertThat(doubles.getAsDouble(), is(3.0));
+        assertThat(DoubleValidation.from(Validation.<Double, String>failure("nope")).getErrors(), contains("nope"));
+    }
+
+    @Test
+    public void shouldValidatePrimitivesAgainstEveryRuleInOrder() throws Exception {
+        IntValidator<String> ints = IntValidator.<String>from(i -> i > 0, "not positive").compose(IntValidator.from(i -> i % 2 == 0, "not even"));
+        assertThat(ints.validate(4).getAsInt(), is(4));
+        assertThat(ints.validate(-1).getErrors(), contains("not positive", "not even"));
+
+        LongValidator<String> longs = LongValidator.from(l -> l < 10L, "too big");
+        assertThat(longs.validate(11L).getErrors(), contains("too big"));
+
+        DoubleValidator<String> doubles = DoubleValidator.<String>from(d -> !Double.isNaN(d), "not a number").compose(DoubleValidator.from(d -> d >= 0, "negative"));
+        assertThat(doubles.validate(Double.NaN).getErrors(), contains("not a number", "negative"));
+    }
+
+    @Test
+    public void shouldValidateIntsLikeTheEquivalentBoxedValidatorInEveryMode() throws Exception {
+        IntValidator<String> ints = IntValidator.from(i -> i > 0, "rule 0");
+        Validator<Integer, String> boxed = Validator.from(i -> i > 0, "rule 0");
+        for (int rule = 1; rule < 70; rule++) {
+            int divisor = rule;
+            ints = ints.compose(IntValidator.from(i -> i % divisor == 0, "rule " + rule));
+            boxed = boxed.compose(Validator.from(i -> i % divisor == 0, "rule " + rule));
+        }
+        for (int value : new int[] { 0, -1, 7, 12 }) {
+            assertThat(ints.validate(value).boxed(), is(boxed.validate(value)));
+            assertThat(ints.failFast().validate(value).boxed(), is(boxed.failFast().validate(value)));
+            assertThat(ints.firstErrors(3).validate(value).boxed(), is(boxed.firstErrors(3).validate(value)));
+            assertThat(ints.capErrors(2).validate(value).boxed(), is(boxed.capErrors(2).validate(value)));
+            assertThat(ints.failFast().accumulateAll().validate(value).boxed(), is(boxed.failFast().accumulateAll().validate(value)));
+            assertThat(ints.capErrors(2).validate(value).errorCount(), is(boxed.validate(value).errorCount()));
+        }
+    }
+
+    @Test
+    public void shouldValidateLongsLikeTheEquivalentBoxedValidatorInEveryMode() throws Exception {
+        LongValidator<String> longs = LongValidator.<String>from(l -> l > 0, "not positive")
+                .compose(LongValidator.from(l -> l % 2 == 0, "not even"))
+                .compose(LongValidator.from(l -> l > 10, "too small"));
+        Validator<Long, String> boxed = Validator.<Long, String>from(l -> l > 0, "not positive")
+                .compose(Validator.from(l -> l % 2 == 0, "not even"))
+                .compose(Validator.from(l -> l > 10, "too small"));
+        for (long value : new long[] { -1L, 3L, 12L }) {
+            assertThat(longs.validate(value).boxed(), is(boxed.validate(value)));
+            assertThat(longs.failFast().validate(value).boxed(), is(boxed.failFast().validate(value)));
+            assertThat(longs.firstErrors(2).validate(value).boxed(), is(boxed.firstErrors(2).validate(value)));
+            assertThat(longs.capErrors(1).validate(value).boxed(), is(boxed.capErrors(1).validate(value)));
+        }
+        assertThat(longs.capErrors(1).validate(-1L).isTruncated(), is(true));
+    }
+
+    @Test
+    public void shouldValidateDoublesLikeTheEquivalentBoxedValidatorInEveryMode() throws Exception {
+        DoubleValidator<String> doubles = DoubleValidator.<String>from(d -> !Double.isNaN(d), "not a number")
+                .compose(DoubleValidator.from(d -> d >= 0, "negative"))
+                .compose(DoubleValidator.from(d -> d < 100, "too big"));
+        Validator<Double, String> boxed = Validator.<Double, String>from(d -> !Double.isNaN(d), "not a number")
+                .compose(Validator.from(d -> d >= 0, "negative"))
+                .compose(Validator.from(d -> d < 100, "too big"));
+        for (double value : new double[] { Double.NaN, -1.5, 150.0, 1.5 }) {
+            assertThat(doubles.validate(value).boxed(), is(boxed.validate(value)));
+            assertThat(doubles.failFast().validate(value).boxed(), is(boxed.failFast().validate(value)));
+            assertThat(doubles.firstErrors(2).validate(value).boxed(), is(boxed.firstErrors(2).validate(value)));
+            assertThat(doubles.capErrors(1).validate(value).boxed(), is(boxed.capErrors(1).validate(value)));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package co.unruly.util;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static co.unruly.matchers.ValidationMatchers.*;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ValidationCollectorsTest {
+
+    private final List<Validation<Integer, String>> validations = asList(
+            Validation.success(1),
+            Validation.failure(asList("a", "b")),
+            Validation.success(2),
+            Validation.failure("c")
+    );
+
+    @Test
+    public void shouldPartitionIntoValuesAndErrors() throws Exception {
+        Validation.Partition<Integer, String> partition = validations.stream().collect(Validation.partitioning());
+        assertThat(partition.getValues(), contains(1, 2));
+        assertThat(partition.getErrors(), contains("a", "b", "c"));
+    }
+
+    @Test
+    public void shouldPartitionParallelStreamsInEncounterOrder() throws Exception {
+        Validation.Partition<Integer, Integer> partition = numbers().parallel().collect(Validation.partitioning());
+        assertThat(partition, is(numbers().collect(Validation.partitioning())));
+        assertThat(partition.getValues().size(), is(6666));
+        assertThat(partition.getErrors().get(0), is(0));
+    }
+
+    @Test
+    public void shouldPartitionConcurrentlyInAnyOrder() throws Exception {
+        Validation.Partition<Integer, String> partition = validations.parallelStream().collect(Validation.partitioningConcurrently());
+        assertThat(partition.getValues(), containsInAnyOrder(1, 2));
+        assertThat(partition.getErrors(), containsInAnyOrder("a", "b", "c"));
+    }
+
+    @Test
+    public void shouldCountTheErrorsOfCappedFailuresWhenPartitioningEitherWay() throws Exception {
+        List<Validation<Integer, String>> capped = IntStream.range(0, 10_000)
+                .mapToObj(i -> i % 2 == 0 ? Validation.<Integer, String>success(i) : Validation.<Integer, String>failure(asList("a", "b", "c")).capErrors(1))
+                .collect(Collectors.toList());
+
+        Validation.Partition<Integer, String> sequential = capped.stream().collect(Validation.partitioning());
+        Validation.Partition<Integer, String> concurrent = capped.parallelStream().collect(Validation.partitioningConcurrently());
+
+        assertThat(sequential.errorCount(), is(15_000L));
+        assertThat(sequential.isTruncated(), is(true));
+        assertThat(concurrent.errorCount(), is(sequential.errorCount()));
+        assertThat(concurrent.isTruncated(), is(true));
+        assertThat(concurrent.getErrors().size(), is(sequential.getErrors().size()));
+        assertThat(capped.stream().collect(Validation.partitioningConcurrently()), is(sequential));
+    }
+
+    @Test
+    public void shouldSequenceSuccessesIntoASuccessOfAllValues() throws Exception {
+        Validation<List<Integer>, String> sequenced = Stream.of(Validation.<Integer, String>success(1), Validation.<Integer, String>success(2)).collect(Validation.sequence());
+        assertThat(sequenced, hasValue(asList(1, 2)));
+    }
+
+    @Test
+    public void shouldSequenceAnyFailureIntoAFailureOfAllErrors() throws Exception {
+        Validation<List<Integer>, String> sequenced = validations.stream().collect(Validation.sequence());
+        assertThat(sequenced, hasErrorValue("a", "b", "c"));
+    }
+
+    @Test
+    public void shouldSequenceAFailureWithoutErrorsIntoAFailure() throws Exception {
+        Validation<Integer, String> filtered = Validation.<Integer, String>success(1).filter(i -> i > 1);
+        Validation<List<Integer>, String> sequenced = Stream.of(filtered).collect(Validation.sequence());
+        assertThat(sequenced, isFailureNotSuccess());
+    }
+
+    @Test
+    public void shouldCountFailures() throws Exception {
+        assertThat(validations.stream().collect(Validation.countingFailures()), is(2L));
+        assertThat(numbers().parallel().collect(Validation.countingFailures()), is(3334L));
+    }
+
+    private static Stream<Validation<Integer, Integer>> numbers() {
+        List<Validation<Integer, Integer>> numbers = IntStream.range(0, 10_000)
+                .mapToObj(i -> i % 3 == 0 ? Validation.<Integer, Integer>failure(i) : Validation.<Integer, Integer>success(i))
+                .collect(Collectors.toList());
+        return numbers.stream();
+    }
+
+    @Test
+    public void shouldSequenceKeepingOnlyTheFirstErrors() throws Exception {
+        Validation<List<Integer>, String> sequenced = validations.stream().collect(Validation.sequence(2));
+        assertThat(sequenced.getErrors(), contains("a", "b"));
+        assertThat(sequenced.errorCount(), is(3L));
+    }
+
+    @Test
+    public void shouldSequenceAParallelStreamKeepingOnlyTheFirstErrors() throws Exception {
+        Validation<List<Integer>, Integer> sequenced = IntStream.range(0, 100_000).boxed().parallel()
+                .map(i -> Validation.<Integer, Integer>failure(i))
+                .collect(Validation.sequence(10));
+        assertThat(sequenced.getErrors(), contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        assertThat(sequenced.errorCount(), is(100_000L));
+    }
+
+    @Test
+    public void shouldCombinePartitionsCollectedConcurrently() throws Exception {
+        Validation.Partition<Integer, String> partition = combine(Validation.partitioningConcurrently());
+        assertThat(partition.getValues(), containsInAnyOrder(1, 2, 1, 2));
+        assertThat(partition.getErrors(), containsInAnyOrder("a", "b", "c", "a", "b", "c"));
+    }
+
+    @Test
+    public void shouldCombineFailureCounts() throws Exception {
+        assertThat(combine(Validation.countingFailures()), is(4L));
+    }
+
+    // Collects the validations twice into separate containers, then combines them as a non-concurrent stream would
+    private <A,R> R combine(Collector<Validation<Integer, String>, A, R> collector) {
+        A first = collector.supplier().get();
+        A second = collector.supplier().get();
+        validations.forEach(validation -> collector.accumulator().accept(first, validation));
+        validations.forEach(validation -> collector.accumulator().accept(second, validation));
+        return collector.finisher().apply(collector.combiner().apply(first, second));
+    }
+}
@@ -3,6 +3,7 @@ package co.unruly.util;
 import org.junit.Test;
 
 import java.util.*;
+import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.Matchers.is;
@@ -171,4 +172,91 @@ public class ValidationCompositionTest {
         Validation<Integer, String> composed = Validation.compose(() -> Validation.success(1), () -> Validation.success(3), () -> Validation.failure("doh"));
         assertThat(composed, is(Validation.failure("doh")));
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldComposeManyFailuresKeepingErrorsInOrder() throws Exception {
+        Validation.IntegerValidationSupplier<Integer>[] suppliers = (Validation.IntegerValidationSupplier<Integer>[]) new Validation.IntegerValidationSupplier<?>[5000];
+        List<Integer> expectedErrors = new ArrayList<>();
+        for (int i = 0; i < suppliers.length; i++) {
+            final int error = i;
+            suppliers[i] = () -> Validation.failure(error);
+            expectedErrors.add(error);
+        }
+        Validation<Integer, Integer> composed = Validation.compose(suppliers);
+        assertThat(composed.getErrors(), is(expectedErrors));
+    }
+
+    @Test
+    public void shouldNotChangeErrorsOfComposedFailuresWhenOneIsReadFirst() throws Exception {
+        Validation<Object, String> first = Validation.failure(asList("a")).compose(Validation.failure(asList("b")), (a, b) -> a);
+        assertThat(first.getErrors(), is(asList("a", "b")));
+        Validation<Object, String> second = first.compose(Validation.failure(asList("c")), (a, b) -> a);
+        assertThat(second.getErrors(), is(asList("a", "b", "c")));
+        assertThat(first.getErrors(), is(asList("a", "b")));
+    }
+
+    @Test
+    public void shouldSumIterablesOfNumericValidations() throws Exception {
+        assertThat(Validation.sumIntegers(asList(Validation.<Integer, String>success(3), Validation.success(4))), is(Validation.success(7)));
+        assertThat(Validation.sumLongs(asList(Validation.<Long, String>success(3L), Validation.success(4L))), is(Validation.success(7L)));
+        assertThat(Validation.sumFloats(asList(Validation.<Float, String>success(3f), Validation.success(4f))), is(Validation.success(7f)));
+        assertThat(Validation.sumDoubles(asList(Validation.<Double, String>success(3d), Validation.success(4d))), is(Validation.success(7d)));
+    }
+
+    @Test
+    public void shouldSumStreamsOfNumericValidationsKeepingErrorsInOrder() throws Exception {
+        Validation<Long, String> summed = Validation.sumLongs(
+                Stream.of(Validation.<Long, String>success(1L), Validation.<Long, String>failure("a"), Validation.<Long, String>success(2L), Validation.<Long, String>failure(asList("b", "c")))
+        );
+        assertThat(summed, is(Validation.failure(asList("a", "b", "c"))));
+    }
+
+    @Test
+    public void shouldSumNoValidationsToZero() throws Exception {
+        assertThat(Validation.sumDoubles(Collections.<Validation<Double, String>>emptyList()), is(Validation.success(0d)));
+    }
+
+    @Test
+    public void shouldKeepOnlyTheFirstErrorsWhenComposingWithACap() throws Exception {
+        Validation<Integer, String> composed = Validation.failure("start");
+        for (int i = 0; i < 100_000; i++) {
+            composed = composed.compose(Validation.failure(asList("error " + i, "other " + i)), Integer::sum, 3);
+        }
+        assertThat(composed.getErrors(), is(asList("start", "error 0", "other 0")));
+        assertThat(composed.errorCount(), is(200_001L));
+        assertThat(composed.isTruncated(), is(true));
+    }
+
+    @Test
+    public void shouldNotTruncateFailuresWithinTheCap() throws Exception {
+        Validation<Integer, String> composed = Validation.<Integer, String>failure("a").compose(Validation.failure("b"), Integer::sum, 2);
+        assertThat(composed, is(Validation.failure(asList("a", "b"))));
+        assertThat(composed.errorCount(), is(2L));
+        assertThat(composed.isTruncated(), is(false));
+    }
+
+    @Test
+    public void shouldCapTheErrorsOfAFailure() throws Exception {
+        Validation<Integer, String> capped = Validation.<Integer, String>failure(asList("a", "b", "c")).capErrors(1);
+        assertThat(capped.getErrors(), is(asList("a")));
+        assertThat(capped.errorCount(), is(3L));
+        assertThat(capped.toString(), is("Validation.failure[[a] and 2 more]"));
+        assertThat(capped.equals(Validation.failure("a")), is(false));
+        assertThat(Validation.success(1).capErrors(1).errorCount(), is(0L));
+    }
+
+    @Test
+    public void shouldCountTheErrorsOfTruncatedFailuresComposedWithoutACap() throws Exception {
+        Validation<Integer, String> truncated = Validation.<Integer, String>failure(asList("a", "b", "c")).capErrors(1);
+        Validation<Integer, String> composed = truncated.compose(truncated, Integer::sum).compose(Validation.failure("d"), Integer::sum);
+        assertThat(composed.getErrors(), is(asList("a", "a", "d")));
+        assertThat(composed.errorCount(), is(7L));
+        assertThat(composed.isTruncated(), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectACapOfLessThanOne() throws Exception {
+        Validation.failure("a").capErrors(0);
+    }
+}
@@ -50,4 +50,12 @@ public class ValidationCreationTest {
     }
 
 
-}
\ No newline at end of file
+
+    @Test
+    public void shouldTurnTheExceptionIntoAnErrorIfGivenThrowingFunction() throws Exception {
+        Validation<Object, String> validation = Validation.tryTo(() -> {
+            throw new IOException("disk full");
+        }, e -> e.getClass().getSimpleName());
+        assertThat(validation, ValidationMatchers.hasErrorValue("IOException"));
+    }
+}
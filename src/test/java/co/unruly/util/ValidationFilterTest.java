@@ -41,4 +41,13 @@ public class ValidationFilterTest {
         assertThat(filtered, ValidationMatchers.hasErrorValue("woops"));
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void shouldTurnTheExceptionIntoAnErrorIfPredicateThrows() throws Exception {
+        Validation<Integer, String> validation = Validation.success(3);
+        Validation<Integer, String> filtered = validation.tryFilter(a -> {
+            throw new Exception("bad");
+        }, Exception::getMessage);
+        assertThat(filtered, ValidationMatchers.hasErrorValue("bad"));
+    }
+}
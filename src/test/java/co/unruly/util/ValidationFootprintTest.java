@@ -0,0 +1,50 @@
+package co.unruly.util;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import org.junit.Test;
+import org.openjdk.jol.info.ClassLayout;
+
+import java.lang.management.ManagementFactory;
+
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class ValidationFootprintTest {
+
+    // An object header plus a single compressed reference
+    private static final long MAX_INSTANCE_SIZE = 16;
+
+    // The sizes only hold with compressed references and class pointers, the default on heaps under 32GB
+    private static void requireCompressedPointers() {
+        HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        assumeTrue("true".equals(hotSpot.getVMOption("UseCompressedOops").getValue()));
+        assumeTrue("true".equals(hotSpot.getVMOption("UseCompressedClassPointers").getValue()));
+    }
+
+    @Test
+    public void shouldHoldASuccessInASingleSmallObject() throws Exception {
+        requireCompressedPointers();
+        Validation<String, String> success = Validation.success("yay");
+        assertThat(ClassLayout.parseInstance(success).instanceSize(), lessThanOrEqualTo(MAX_INSTANCE_SIZE));
+    }
+
+    @Test
+    public void shouldHoldAFailureInASingleSmallObject() throws Exception {
+        requireCompressedPointers();
+        Validation<String, String> failure = Validation.failure("nope");
+        assertThat(ClassLayout.parseInstance(failure).instanceSize(), lessThanOrEqualTo(MAX_INSTANCE_SIZE));
+    }
+
+    @Test
+    public void shouldReuseAFailureThroughMapFlatMapAndFilter() throws Exception {
+        Validation<Integer, String> failure = Validation.failure("nope");
+        Validation<Object, String> chained = failure
+                .map(i -> i + 1)
+                .flatMap(i -> Validation.<Integer, String>success(i * 2))
+                .filter(i -> i > 0)
+                .map(i -> (Object) i);
+        assertThat(chained, sameInstance((Object) failure));
+    }
+}
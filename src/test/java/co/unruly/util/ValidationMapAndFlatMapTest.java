@@ -3,6 +3,7 @@ package co.unruly.util;
 import co.unruly.matchers.ValidationMatchers;
 import org.junit.Test;
 
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 
 public class ValidationMapAndFlatMapTest {
@@ -58,4 +59,41 @@ public class ValidationMapAndFlatMapTest {
         assertThat(mapped, ValidationMatchers.isFailureNotSuccess());
         assertThat(mapped, ValidationMatchers.hasErrorValueWhichIsAnException(new Exception("foo")));
     }
+
+    @Test
+    public void shouldTurnTheExceptionIntoAnErrorIfMapMapperThrows() throws Exception {
+        Validation<Integer, String> validation = Validation.success(3);
+        Validation<String, String> mapped = validation.tryMap(a -> {
+            throw new Exception("oh dear");
+        }, Exception::getMessage);
+        assertThat(mapped, ValidationMatchers.hasErrorValue("oh dear"));
+    }
+
+    @Test
+    public void shouldTurnTheExceptionIntoAnErrorIfFlatMapMapperThrows() throws Exception {
+        Validation<Integer, String> validation = Validation.success(3);
+        Validation<String, String> mapped = validation.tryFlatMap(a -> {
+            throw new Exception("foo");
+        }, Exception::getMessage);
+        assertThat(mapped, ValidationMatchers.hasErrorValue("foo"));
+    }
+
+    @Test
+    public void shouldNotCallTheMapperOfAFailure() throws Exception {
+        Validation<Integer, String> failure = Validation.failure("whoops");
+        Validation<String, String> mapped = failure.tryMap(a -> {
+            throw new Exception("never");
+        }, Exception::getMessage);
+        assertThat(mapped, ValidationMatchers.hasErrorValue("whoops"));
+    }
+
+    @Test
+    public void shouldStripTheStackTraceOfAStacklessException() throws Exception {
+        Validation<Integer, Exception> validation = Validation.success(3);
+        Validation<String, Exception> mapped = validation.tryMap(a -> {
+            throw new Exception("oh dear");
+        }, Validation.stackless());
+        assertThat(mapped, ValidationMatchers.hasErrorValueWhichIsAnException(new Exception("oh dear")));
+        assertThat(mapped.getErrors().get(0).getStackTrace().length, is(0));
+    }
 }
@@ -0,0 +1,99 @@
+package co.unruly.util;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static co.unruly.matchers.ValidationMatchers.*;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ValidationPipelineTest {
+
+    private final ValidationPipeline.Builder<String, Integer, String> parsing = ValidationPipeline.<String, String>builder()
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .tryMap(Integer::parseInt, e -> "not a number");
+
+    private final ValidationPipeline<String, Integer, String> pipeline = parsing
+            .flatMap(i -> i < 0 ? Validation.<Integer, String>failure("negative") : Validation.success(i))
+            .map(i -> i * 2)
+            .build();
+
+    @Test
+    public void shouldApplyEveryStepToASuccessfulInput() throws Exception {
+        assertThat(pipeline.apply(" 21 "), hasValue(42));
+    }
+
+    @Test
+    public void shouldFailWithTheErrorOfAFailingFlatMap() throws Exception {
+        assertThat(pipeline.apply("-1"), hasErrorValue("negative"));
+    }
+
+    @Test
+    public void shouldFailWithTheHandledErrorIfAStepThrows() throws Exception {
+        assertThat(pipeline.apply("twenty"), hasErrorValue("not a number"));
+    }
+
+    @Test
+    public void shouldFailWithoutErrorsIfFilteredOut() throws Exception {
+        Validation<Integer, String> validation = pipeline.apply("  ");
+        assertThat(validation, isFailureNotSuccess());
+        assertThat(validation.getErrors(), is(empty()));
+    }
+
+    @Test
+    public void shouldGiveTheSameResultAsTheEquivalentValidationChain() throws Exception {
+        for (String input : new String[] { "7", " -3", "", "x" }) {
+            Validation<Integer, String> chained = Validation.<String, String>success(input)
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .tryMap(Integer::parseInt, e -> "not a number")
+                    .flatMap(i -> i < 0 ? Validation.<Integer, String>failure("negative") : Validation.success(i))
+                    .map(i -> i * 2);
+            assertThat(pipeline.apply(input), is(chained));
+        }
+    }
+
+    @Test
+    public void shouldNotChangeABuilderWhenExtendingIt() throws Exception {
+        ValidationPipeline<String, Integer, String> parseOnly = parsing.build();
+        parsing.map(i -> i + 1000);
+        assertThat(parseOnly.apply("5"), hasValue(5));
+    }
+
+    @Test
+    public void shouldTurnExceptionsFromFilteringIntoErrors() throws Exception {
+        ValidationPipeline<String, String, String> pipeline = ValidationPipeline.<String, String>builder()
+                .tryFilter(s -> {
+                    if (s.startsWith("!")) {
+                        throw new Exception("shouting");
+                    }
+                    return true;
+                }, Exception::getMessage)
+                .build();
+        assertThat(pipeline.apply("!hello"), hasErrorValue("shouting"));
+        assertThat(pipeline.apply("hello"), hasValue("hello"));
+    }
+
+    @Test
+    public void shouldPassOnExceptionsFromStepsWhichDontHandleThem() throws Exception {
+        IOException thrown = new IOException("disk full");
+        ValidationPipeline<String, Integer, String> pipeline = parsing
+                .map(i -> ValidationPipelineTest.<Integer, RuntimeException>sneakyThrow(thrown))
+                .build();
+        try {
+            pipeline.apply("5");
+            fail("expected the exception to be passed on");
+        } catch (Exception e) {
+            assertThat(e, is(thrown));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, E extends Exception> T sneakyThrow(Exception e) throws E {
+        throw (E) e;
+    }
+}
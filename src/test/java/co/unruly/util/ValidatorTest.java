@@ -0,0 +1,193 @@
+package co.unruly.util;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static co.unruly.matchers.ValidationMatchers.*;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ValidatorTest {
+
+    private final Validator<Integer, String> positive = Validator.from(i -> i > 0, "not positive");
+    private final Validator<Integer, String> even = Validator.from(i -> i % 2 == 0, "not even");
+    private final Validator<Integer, String> small = Validator.from(i -> i < 100, "not small");
+
+    @Test
+    public void shouldSucceedWithTheValueWhenAllRulesPass() throws Exception {
+        Validation<Integer, String> validation = positive.compose(even).compose(small).validate(42);
+        assertThat(validation, isSuccessNotFailure());
+        assertThat(validation, hasValue(42));
+    }
+
+    @Test
+    public void shouldReportErrorsOfFailingRulesInComposedOrder() throws Exception {
+        Validation<Integer, String> validation = positive.compose(even).compose(small).validate(-101);
+        assertThat(validation, isFailureNotSuccess());
+        assertThat(validation.getErrors(), contains("not positive", "not even"));
+    }
+
+    @Test
+    public void shouldNotChangeValidatorsWhenComposing() throws Exception {
+        Validator<Integer, String> composed = positive.compose(even);
+        composed.compose(small);
+        assertThat(composed.validate(101).getErrors(), contains("not even"));
+        assertThat(positive.validate(-2).getErrors(), contains("not positive"));
+    }
+
+    @Test
+    public void shouldStopAtTheFirstFailingRuleWhenFailingFast() throws Exception {
+        AtomicInteger evaluations = new AtomicInteger();
+        Validator<Integer, String> counted = Validator.from(i -> evaluations.incrementAndGet() > 0, "never");
+        Validation<Integer, String> validation = positive.compose(even).compose(counted).failFast().validate(-1);
+        assertThat(validation.getErrors(), contains("not positive"));
+        assertThat(evaluations.get(), is(0));
+    }
+
+    @Test
+    public void shouldReportOnlyTheFirstErrorsWhenLimited() throws Exception {
+        Validator<Integer, String> validator = positive.compose(even).compose(small).firstErrors(2);
+        assertThat(validator.validate(-101).getErrors(), contains("not positive", "not even"));
+        assertThat(validator.validate(-1001).getErrors(), contains("not positive", "not even"));
+        assertThat(validator.validate(1001).getErrors(), contains("not even", "not small"));
+    }
+
+    @Test
+    public void shouldAccumulateAllErrorsAgainAfterFailingFast() throws Exception {
+        Validator<Integer, String> validator = positive.compose(even).failFast().accumulateAll();
+        assertThat(validator.validate(-1).getErrors(), contains("not positive", "not even"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectALimitOfLessThanOneError() throws Exception {
+        positive.firstErrors(0);
+    }
+
+    @Test
+    public void shouldGiveTheSameResultWhenValidatingInParallel() throws Exception {
+        Validator<Integer, String> validator = manyRules(200);
+        for (int value : new int[] { -1, 0, 57, 150, 199, 1000 }) {
+            assertThat(validator.validateParallel(value), is(validator.validate(value)));
+        }
+    }
+
+    @Test
+    public void shouldReportOnlyTheFirstErrorsInComposedOrderWhenValidatingInParallel() throws Exception {
+        Validator<Integer, String> validator = manyRules(200).firstErrors(3);
+        assertThat(validator.validateParallel(100, new ForkJoinPool(4)).getErrors(), contains("rule 100", "rule 101", "rule 102"));
+    }
+
+    @Test
+    public void shouldValidateSmallValidatorsOnTheCallingThreadWhenValidatingInParallel() throws Exception {
+        Thread caller = Thread.currentThread();
+        Validator<Integer, String> validator = Validator.from(i -> Thread.currentThread() == caller, "elsewhere");
+        assertThat(validator.validateParallel(1), isSuccessNotFailure());
+    }
+
+    private static Validator<Integer, String> manyRules(int count) {
+        Validator<Integer, String> validator = Validator.from(i -> i > 0, "rule 0");
+        for (int rule = 1; rule < count; rule++) {
+            int bound = rule;
+            validator = validator.compose(Validator.from(i -> i > bound, "rule " + rule));
+        }
+        return validator;
+    }
+
+    @Test
+    public void shouldEvaluateASharedRuleOnceButReportEachOfItsErrors() throws Exception {
+        AtomicInteger evaluations = new AtomicInteger();
+        Validator<Integer, String> shared = Validator.from(i -> evaluations.incrementAndGet() > 0 && i > 0, "not positive");
+        Validator<Integer, String> first = shared.compose(even);
+        Validator<Integer, String> second = shared.compose(small);
+
+        Validation<Integer, String> validation = first.compose(second).validate(-101);
+
+        assertThat(validation.getErrors(), contains("not positive", "not even", "not positive"));
+        assertThat(evaluations.get(), is(1));
+    }
+
+    @Test
+    public void shouldEvaluateSharedRulesOnceAmongMoreThanSixtyFourRules() throws Exception {
+        AtomicInteger evaluations = new AtomicInteger();
+        Validator<Integer, String> shared = Validator.from(i -> evaluations.incrementAndGet() > 0 && i > 0, "not positive");
+        Validator<Integer, String> validator = shared.compose(manyRules(100)).compose(shared);
+
+        assertThat(validator.validate(-1).getErrors().size(), is(102));
+        assertThat(validator.validateParallel(-1), is(validator.validate(-1)));
+        assertThat(validator.validate(1000), isSuccessNotFailure());
+        assertThat(evaluations.get(), is(4));
+    }
+
+    @Test
+    public void shouldSetTheBitsOfFailingRulesInTheFailureMask() throws Exception {
+        Validator<Integer, String> validator = even.compose(small).compose(Validator.from(i -> i > 0, "not positive"));
+
+        assertThat(validator.failureMask(101), is(0b011L));
+        assertThat(validator.failureMask(-1), is(0b101L));
+        assertThat(validator.failureMask(2), is(0L));
+        assertThat(validator.failFast().failureMask(-1), is(0b001L));
+        assertThat(validator.errorsOf(0b101L), contains("not even", "not positive"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotGiveAFailureMaskForMoreThanSixtyFourRules() throws Exception {
+        manyRules(65).failureMask(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectAMaskWithBitsBeyondItsRules() throws Exception {
+        even.compose(small).errorsOf(0b100L);
+    }
+
+    @Test
+    public void shouldSetTheBitsOfFailingRulesInTheFailureBits() throws Exception {
+        Validator<Integer, String> validator = manyRules(200);
+
+        BitSet bits = validator.failureBits(150);
+
+        assertThat(bits.cardinality(), is(50));
+        assertThat(bits.nextSetBit(0), is(150));
+        assertThat(validator.errorsOf(bits), is(validator.validate(150).getErrors()));
+        assertThat(even.compose(small).failureBits(101), is(BitSet.valueOf(new long[] { 0b011L })));
+    }
+
+    @Test
+    public void shouldAggregateFailuresAcrossValuesWithBitOperations() throws Exception {
+        Validator<Integer, String> validator = even.compose(small);
+
+        long failedAny = 0;
+        for (int i = 0; i < 200; i += 2) {
+            failedAny |= validator.failureMask(i);
+        }
+
+        assertThat(validator.errorsOf(failedAny), contains("not small"));
+    }
+
+    @Test
+    public void shouldEvaluateEveryRuleButKeepOnlyTheFirstErrorsWhenCapped() throws Exception {
+        AtomicInteger evaluations = new AtomicInteger();
+        Validator<Integer, String> counted = Validator.from(i -> evaluations.incrementAndGet() < 0, "counted");
+        Validator<Integer, String> validator = even.compose(small).compose(counted).capErrors(1);
+
+        Validation<Integer, String> validation = validator.validate(101);
+
+        assertThat(validation.getErrors(), contains("not even"));
+        assertThat(validation.errorCount(), is(3L));
+        assertThat(validation.isTruncated(), is(true));
+        assertThat(evaluations.get(), is(1));
+    }
+
+    @Test
+    public void shouldCapErrorsOfLargeValidators() throws Exception {
+        Validator<Integer, String> validator = manyRules(200).capErrors(5);
+
+        assertThat(validator.validate(0).getErrors().size(), is(5));
+        assertThat(validator.validate(0).errorCount(), is(200L));
+        assertThat(validator.validateParallel(0), is(validator.validate(0)));
+        assertThat(validator.compose(even).validate(0).errorCount(), is(200L));
+    }
+}
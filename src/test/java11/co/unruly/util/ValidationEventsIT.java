@@ -0,0 +1,91 @@
+package co.unruly.util;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Runs against the packaged multi-release jar, so the Java 11 version of ValidationEvents records events.
+ */
+public class ValidationEventsIT {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldRecordValidationsAboveTheThreshold() throws Exception {
+        Validator<Integer, String> validator = Validator.<Integer, String>from("slow", i -> sleep(20) && i > 5, "too small")
+                .compose(Validator.from(i -> i % 2 == 0, "odd"));
+
+        List<RecordedEvent> events = record("co.unruly.validation.Validate", Duration.ofMillis(10), () -> {
+            validator.validate(3);
+            validator.failFast().validate(3);
+        });
+
+        assertThat(events.size(), is(2));
+        assertThat(events.get(0).getInt("rulesEvaluated"), is(2));
+        assertThat(events.get(0).getInt("errorCount"), is(2));
+        assertThat(events.get(0).getString("failingRules"), is("slow, odd"));
+        assertThat(events.get(1).getInt("rulesEvaluated"), is(1));
+        assertThat(events.get(1).getString("failingRules"), is("slow"));
+    }
+
+    @Test
+    public void shouldNotRecordValidationsBelowTheThreshold() throws Exception {
+        Validator<Integer, String> validator = Validator.from(i -> i > 5, "too small");
+
+        List<RecordedEvent> events = record("co.unruly.validation.Validate", Duration.ofSeconds(10), () -> validator.validate(3));
+
+        assertThat(events.size(), is(0));
+    }
+
+    @Test
+    public void shouldRecordTryOperations() throws Exception {
+        List<RecordedEvent> events = record("co.unruly.validation.Try", Duration.ZERO, () -> {
+            Validation.tryTo(() -> { throw new IOException("nope"); });
+            Validation.success(1).tryMap(i -> i + 1, e -> "failed");
+        });
+
+        assertThat(events.size(), is(2));
+        assertThat(events.get(0).getString("operation"), is("tryTo"));
+        assertThat(events.get(0).getBoolean("failed"), is(true));
+        assertThat(events.get(0).getClass("exceptionClass").getName(), is(IOException.class.getName()));
+        assertThat(events.get(1).getString("operation"), is("tryMap"));
+        assertThat(events.get(1).getBoolean("failed"), is(false));
+    }
+
+    private List<RecordedEvent> record(String event, Duration threshold, Runnable action) throws IOException {
+        Path file = folder.newFile().toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable(event).withThreshold(threshold);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals(event))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
+    }
+}
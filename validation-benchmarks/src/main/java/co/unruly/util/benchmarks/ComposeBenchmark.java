@@ -0,0 +1,133 @@
+package co.unruly.util.benchmarks;
+
+import co.unruly.util.Validation;
+import co.unruly.util.Validation.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("unchecked")
+public class ComposeBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int size;
+
+    @Param({"PASS", "FAIL"})
+    public Outcome outcome;
+
+    private IntegerValidationSupplier<String>[] integers;
+    private LongValidationSupplier<String>[] longs;
+    private FloatValidationSupplier<String>[] floats;
+    private DoubleValidationSupplier<String>[] doubles;
+    private BooleanValidationSupplier<String>[] booleans;
+    private StringValidationSupplier<String>[] strings;
+    private ListValidationSupplier<Integer, String>[] lists;
+    private SetValidationSupplier<Integer, String>[] sets;
+    private MapValidationSupplier<Integer, Integer, String>[] maps;
+
+    private Validation<Integer, String> first;
+    private Validation<Integer, String> second;
+
+    @Setup
+    public void setUp() {
+        integers = new IntegerValidationSupplier[size];
+        longs = new LongValidationSupplier[size];
+        floats = new FloatValidationSupplier[size];
+        doubles = new DoubleValidationSupplier[size];
+        booleans = new BooleanValidationSupplier[size];
+        strings = new StringValidationSupplier[size];
+        lists = new ListValidationSupplier[size];
+        sets = new SetValidationSupplier[size];
+        maps = new MapValidationSupplier[size];
+
+        for (int i = 0; i < size; i++) {
+            final int n = i;
+            Validation<Integer, String> integer = validation(n);
+            Validation<Long, String> aLong = validation((long) n);
+            Validation<Float, String> aFloat = validation((float) n);
+            Validation<Double, String> aDouble = validation((double) n);
+            Validation<Boolean, String> aBoolean = validation(true);
+            Validation<String, String> string = validation("s" + n);
+            Validation<List<Integer>, String> list = validation(singletonList(n));
+            Validation<Set<Integer>, String> set = validation(Collections.singleton(n));
+            Validation<Map<Integer, Integer>, String> map = validation(singletonMap(n, n));
+
+            integers[i] = () -> integer;
+            longs[i] = () -> aLong;
+            floats[i] = () -> aFloat;
+            doubles[i] = () -> aDouble;
+            booleans[i] = () -> aBoolean;
+            strings[i] = () -> string;
+            lists[i] = () -> list;
+            sets[i] = () -> set;
+            maps[i] = () -> map;
+        }
+
+        first = validation(1);
+        second = validation(2);
+    }
+
+    private <T> Validation<T, String> validation(T value) {
+        return outcome == Outcome.PASS ? Validation.success(value) : Validation.failure("error " + value);
+    }
+
+    @Benchmark
+    public Validation<Integer, String> composePair() {
+        return first.compose(second, Integer::sum);
+    }
+
+    @Benchmark
+    public Validation<Integer, String> composeIntegers() {
+        return Validation.compose(integers);
+    }
+
+    @Benchmark
+    public Validation<Long, String> composeLongs() {
+        return Validation.compose(longs);
+    }
+
+    @Benchmark
+    public Validation<Float, String> composeFloats() {
+        return Validation.compose(floats);
+    }
+
+    @Benchmark
+    public Validation<Double, String> composeDoubles() {
+        return Validation.compose(doubles);
+    }
+
+    @Benchmark
+    public Validation<Boolean, String> composeBooleans() {
+        return Validation.compose(booleans);
+    }
+
+    @Benchmark
+    public Validation<String, String> composeStrings() {
+        return Validation.compose(strings);
+    }
+
+    @Benchmark
+    public Validation<List<Integer>, String> composeLists() {
+        return Validation.compose(lists);
+    }
+
+    @Benchmark
+    public Validation<Set<Integer>, String> composeSets() {
+        return Validation.compose(sets);
+    }
+
+    @Benchmark
+    public Validation<Map<Integer, Integer>, String> composeMaps() {
+        return Validation.compose(maps);
+    }
+}
@@ -0,0 +1,6 @@
+package co.unruly.util.benchmarks;
+
+public enum Outcome {
+    PASS,
+    FAIL
+}
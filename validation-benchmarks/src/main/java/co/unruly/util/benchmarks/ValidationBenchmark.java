@@ -0,0 +1,95 @@
+package co.unruly.util.benchmarks;
+
+import co.unruly.util.Validation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({"PASS", "FAIL"})
+    public Outcome outcome;
+
+    private Integer value;
+    private Validation<Integer, String> validation;
+    // The try operations start from a success whatever the outcome, so that FAIL throws inside them
+    private Validation<Integer, String> succeeded;
+
+    @Setup
+    public void setUp() {
+        value = 42;
+        validation = outcome == Outcome.PASS ? Validation.success(value) : Validation.failure("nope");
+        succeeded = Validation.success(value);
+    }
+
+    @Benchmark
+    public Validation<Integer, String> success() {
+        return Validation.success(value);
+    }
+
+    @Benchmark
+    public Validation<Integer, String> failure() {
+        return Validation.failure("nope");
+    }
+
+    @Benchmark
+    public Validation<Integer, String> map() {
+        return validation.map(i -> i + 1);
+    }
+
+    @Benchmark
+    public Validation<Integer, String> flatMap() {
+        return validation.flatMap(i -> Validation.success(i + 1));
+    }
+
+    @Benchmark
+    public Validation<Integer, String> filter() {
+        return validation.filter(i -> i > 0);
+    }
+
+    @Benchmark
+    public Validation<Integer, ?> tryMap() {
+        return succeeded.tryMap(i -> {
+            if (outcome == Outcome.FAIL) {
+                throw new Exception("nope");
+            }
+            return i + 1;
+        });
+    }
+
+    @Benchmark
+    public Validation<Integer, ?> tryFlatMap() {
+        return succeeded.tryFlatMap(i -> {
+            if (outcome == Outcome.FAIL) {
+                throw new Exception("nope");
+            }
+            return Validation.success(i + 1);
+        });
+    }
+
+    @Benchmark
+    public Validation<Integer, ?> tryFilter() {
+        return succeeded.tryFilter(i -> {
+            if (outcome == Outcome.FAIL) {
+                throw new Exception("nope");
+            }
+            return i > 0;
+        });
+    }
+
+    @Benchmark
+    public Validation<Integer, Exception> tryTo() {
+        return Validation.tryTo(() -> {
+            if (outcome == Outcome.FAIL) {
+                throw new Exception("nope");
+            }
+            return value;
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package co.unruly.util.benchmarks;
+
+import co.unruly.util.Validation;
+import co.unruly.util.Validator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    public int rules;
+
+    @Param({"PASS", "FAIL"})
+    public Outcome outcome;
+
+    private Validator<Integer, String> validator;
+    private Integer value;
+
+    @Setup
+    public void setUp() {
+        validator = Validator.from(i -> i >= 0, "rule 0");
+        for (int i = 1; i < rules; i++) {
+            final int bound = -i;
+            validator = validator.compose(Validator.from(n -> n >= bound, "rule " + i));
+        }
+        value = outcome == Outcome.PASS ? 1 : -rules;
+    }
+
+    @Benchmark
+    public Validation<Integer, String> validate() {
+        return validator.validate(value);
+    }
+}
@@ -0,0 +1,22 @@
+package co.unruly.util.constraints;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The length of the field, a {@link CharSequence}, must be between the bounds, inclusive. Null fields pass.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Length {
+    int min() default 0;
+
+    int max() default Integer.MAX_VALUE;
+
+    /**
+     * The error if the field's length is out of bounds, by default describing the bounds.
+     */
+    String message() default "";
+}
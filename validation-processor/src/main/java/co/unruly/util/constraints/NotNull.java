@@ -0,0 +1,18 @@
+package co.unruly.util.constraints;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The field must not be null.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface NotNull {
+    /**
+     * The error if the field is null, by default {@code must not be null}.
+     */
+    String message() default "";
+}
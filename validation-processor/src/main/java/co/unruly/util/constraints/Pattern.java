@@ -0,0 +1,20 @@
+package co.unruly.util.constraints;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The whole of the field, a {@link CharSequence}, must match the regular expression. Null fields pass.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Pattern {
+    String regexp();
+
+    /**
+     * The error if the field doesn't match, by default {@code must match} followed by the expression.
+     */
+    String message() default "";
+}
@@ -0,0 +1,22 @@
+package co.unruly.util.constraints;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The field, a primitive number or its wrapper, must be between the bounds, inclusive. Null fields pass.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Range {
+    long min() default Long.MIN_VALUE;
+
+    long max() default Long.MAX_VALUE;
+
+    /**
+     * The error if the field is out of bounds, by default describing the bounds.
+     */
+    String message() default "";
+}
@@ -0,0 +1,297 @@
+package co.unruly.util.processor;
+
+import co.unruly.util.constraints.Length;
+import co.unruly.util.constraints.NotNull;
+import co.unruly.util.constraints.Pattern;
+import co.unruly.util.constraints.Range;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Generates a class {@code <Type>Validator} for each type with constrained fields, holding a {@code Validator} which
+ * checks each constraint with a plain lambda, reporting errors tagged with the field's name. Constraints are checked
+ * in the order the fields are declared.
+ *
+ * Fields are read directly, or through a getter if they are private.
+ */
+public final class ValidatorProcessor extends AbstractProcessor {
+    private static final List<Class<?>> CONSTRAINTS = Arrays.<Class<?>>asList(NotNull.class, Length.class, Range.class, Pattern.class);
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        Set<String> types = new LinkedHashSet<>();
+        for (Class<?> constraint : CONSTRAINTS) {
+            types.add(constraint.getCanonicalName());
+        }
+        return types;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (VariableElement field : ElementFilter.fieldsIn(round.getElementsAnnotatedWith(annotation))) {
+                types.add((TypeElement) field.getEnclosingElement());
+            }
+        }
+        for (TypeElement type : types) {
+            generate(type);
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        if (!type.getTypeParameters().isEmpty()) {
+            error(type, "validators can't be generated for generic types");
+            return;
+        }
+        for (Element enclosing = type; enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+                error(type, "validators can't be generated for private types");
+                return;
+            }
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String typeName = typeName(type);
+        String validatorName = binaryName(type).replace('$', '_') + "Validator";
+
+        List<String> checks = new ArrayList<>();
+        List<String> patterns = new ArrayList<>();
+        boolean valid = true;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!isConstrained(field)) {
+                continue;
+            }
+            String read = read(type, field);
+            if (read == null) {
+                valid = false;
+                continue;
+            }
+            valid &= checks(field, read, checks, patterns);
+        }
+        if (!valid) {
+            return;
+        }
+
+        String errorType = "FieldError<String>";
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import co.unruly.util.FieldError;\n")
+              .append("import co.unruly.util.Validation;\n")
+              .append("import co.unruly.util.Validator;\n\n")
+              .append("/**\n * Validates the constrained fields of {@link ").append(typeName).append("}. Generated by ")
+              .append(ValidatorProcessor.class.getSimpleName()).append(", do not edit.\n */\n")
+              .append("public final class ").append(validatorName).append(" {\n");
+        for (int i = 0; i < patterns.size(); i++) {
+            source.append("    private static final java.util.regex.Pattern PATTERN_").append(i)
+                  .append(" = java.util.regex.Pattern.compile(").append(literal(patterns.get(i))).append(");\n");
+        }
+        source.append("\n    private static final Validator<").append(typeName).append(", ").append(errorType).append("> VALIDATOR =\n            ");
+        for (int i = 0; i < checks.size(); i++) {
+            source.append(i == 0 ? "Validator.<" + typeName + ", " + errorType + ">from(" : "\n            .compose(Validator.from(")
+                  .append(checks.get(i))
+                  .append(i == 0 ? ")" : "))");
+        }
+        source.append(";\n");
+        source.append("\n    private ").append(validatorName).append("() {\n    }\n\n")
+              .append("    public static Validator<").append(typeName).append(", ").append(errorType).append("> validator() {\n")
+              .append("        return VALIDATOR;\n    }\n\n")
+              .append("    public static Validation<").append(typeName).append(", ").append(errorType).append("> validate(")
+              .append(typeName).append(" value) {\n")
+              .append("        return VALIDATOR.validate(value);\n    }\n")
+              .append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? validatorName : packageName + "." + validatorName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            error(type, "couldn't write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    // Adds a check for each constraint on the field, returning false if any don't apply to its type
+    private boolean checks(VariableElement field, String read, List<String> checks, List<String> patterns) {
+        String name = field.getSimpleName().toString();
+        TypeMirror type = field.asType();
+        boolean primitive = type.getKind().isPrimitive();
+        String declared = processingEnv.getTypeUtils().erasure(type).toString();
+        boolean valid = true;
+
+        NotNull notNull = field.getAnnotation(NotNull.class);
+        if (notNull != null) {
+            if (primitive) {
+                valid = error(field, "@NotNull can't apply to a primitive field");
+            } else {
+                checks.add(check(read, declared, "v != null", name, message(notNull.message(), "must not be null")));
+            }
+        }
+
+        Length length = field.getAnnotation(Length.class);
+        if (length != null) {
+            if (!isCharSequence(type)) {
+                valid = error(field, "@Length only applies to CharSequence fields");
+            } else if (length.min() > length.max()) {
+                valid = error(field, "@Length has a min of " + length.min() + " above its max of " + length.max());
+            } else {
+                checks.add(check(read, declared, "v == null || v.length() >= " + length.min() + " && v.length() <= " + length.max(),
+                        name, message(length.message(), bounds("length must be", length.min(), length.max(), 0, Integer.MAX_VALUE))));
+            }
+        }
+
+        Range range = field.getAnnotation(Range.class);
+        if (range != null) {
+            if (!isNumber(type)) {
+                valid = error(field, "@Range only applies to primitive numbers and their wrappers");
+            } else if (range.min() > range.max()) {
+                valid = error(field, "@Range has a min of " + range.min() + " above its max of " + range.max());
+            } else {
+                String bounds = "v >= " + range.min() + "L && v <= " + range.max() + "L";
+                checks.add(check(read, declared, primitive ? bounds : "v == null || " + bounds,
+                        name, message(range.message(), bounds("must be", range.min(), range.max(), Long.MIN_VALUE, Long.MAX_VALUE))));
+            }
+        }
+
+        Pattern pattern = field.getAnnotation(Pattern.class);
+        if (pattern != null) {
+            if (!isCharSequence(type)) {
+                valid = error(field, "@Pattern only applies to CharSequence fields");
+            } else {
+                try {
+                    java.util.regex.Pattern.compile(pattern.regexp());
+                    checks.add(check(read, declared, "v == null || PATTERN_" + patterns.size() + ".matcher(v).matches()",
+                            name, message(pattern.message(), "must match " + pattern.regexp())));
+                    patterns.add(pattern.regexp());
+                } catch (PatternSyntaxException e) {
+                    valid = error(field, "@Pattern has an invalid expression: " + e.getDescription());
+                }
+            }
+        }
+        return valid;
+    }
+
+    private static String check(String read, String type, String condition, String field, String message) {
+        return "value -> { " + type + " v = " + read + "; return " + condition + "; }, new FieldError<>("
+                + literal(field) + ", " + literal(message) + ")";
+    }
+
+    // How the generated validator reads the field, or null if it can't
+    private String read(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (field.getModifiers().contains(Modifier.STATIC)) {
+            error(field, "constraints can't apply to static fields");
+            return null;
+        }
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return "value." + name;
+        }
+        String capitalised = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            String methodName = method.getSimpleName().toString();
+            if (method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())
+                    && (methodName.equals("get" + capitalised) || methodName.equals("is" + capitalised) || methodName.equals(name))) {
+                return "value." + methodName + "()";
+            }
+        }
+        error(field, "private constrained fields need a getter which isn't private");
+        return null;
+    }
+
+    private boolean isConstrained(VariableElement field) {
+        return field.getAnnotation(NotNull.class) != null
+                || field.getAnnotation(Length.class) != null
+                || field.getAnnotation(Range.class) != null
+                || field.getAnnotation(Pattern.class) != null;
+    }
+
+    private boolean isCharSequence(TypeMirror type) {
+        TypeMirror charSequence = processingEnv.getElementUtils().getTypeElement(CharSequence.class.getName()).asType();
+        return !type.getKind().isPrimitive() && processingEnv.getTypeUtils().isAssignable(type, charSequence);
+    }
+
+    private boolean isNumber(TypeMirror type) {
+        TypeMirror unboxed = type;
+        if (!type.getKind().isPrimitive()) {
+            try {
+                unboxed = processingEnv.getTypeUtils().unboxedType(type);
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        TypeKind kind = unboxed.getKind();
+        return kind == TypeKind.BYTE || kind == TypeKind.SHORT || kind == TypeKind.INT || kind == TypeKind.LONG
+                || kind == TypeKind.FLOAT || kind == TypeKind.DOUBLE;
+    }
+
+    private static String message(String given, String fallback) {
+        return given.isEmpty() ? fallback : given;
+    }
+
+    private static String bounds(String prefix, long min, long max, long lowest, long highest) {
+        if (min == lowest) {
+            return prefix + " at most " + max;
+        }
+        if (max == highest) {
+            return prefix + " at least " + min;
+        }
+        return prefix + " between " + min + " and " + max;
+    }
+
+    private static String typeName(TypeElement type) {
+        return type.getQualifiedName().toString();
+    }
+
+    // Nested types are named after their enclosing types, as in Outer$Inner
+    private static String binaryName(TypeElement type) {
+        Element enclosing = type.getEnclosingElement();
+        if (enclosing instanceof TypeElement) {
+            return binaryName((TypeElement) enclosing) + "$" + type.getSimpleName();
+        }
+        return type.getSimpleName().toString();
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"': literal.append("\\\""); break;
+                case '\\': literal.append("\\\\"); break;
+                case '\n': literal.append("\\n"); break;
+                case '\r': literal.append("\\r"); break;
+                case '\t': literal.append("\\t"); break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private boolean error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        return false;
+    }
+}
@@ -0,0 +1,153 @@
+package co.unruly.util.processor;
+
+import co.unruly.util.FieldError;
+import co.unruly.util.Validation;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.*;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ValidatorProcessorTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private static final String PERSON =
+            "package sample;\n" +
+            "import co.unruly.util.constraints.*;\n" +
+            "public class Person {\n" +
+            "    @NotNull @Length(min = 1, max = 10) String name;\n" +
+            "    @Range(min = 0, max = 150) int age;\n" +
+            "    @Pattern(regexp = \"[^@]+@[^@]+\", message = \"is not an \\\"email\\\"\") private String email;\n" +
+            "    @Range(min = 1) Long id;\n" +
+            "    public Person(String name, int age, String email, Long id) {\n" +
+            "        this.name = name; this.age = age; this.email = email; this.id = id;\n" +
+            "    }\n" +
+            "    public String getEmail() { return email; }\n" +
+            "    public static class Pet {\n" +
+            "        @NotNull String species;\n" +
+            "        public Pet(String species) { this.species = species; }\n" +
+            "    }\n" +
+            "}\n";
+
+    @Test
+    public void shouldGenerateAValidatorCheckingEachConstraint() throws Exception {
+        ClassLoader classes = compile(PERSON);
+
+        assertThat(validate(classes, "sample.Person", person(classes, "Ada", 36, "ada@example.com", 1L)).isSuccess(), is(true));
+        assertThat(validate(classes, "sample.Person", person(classes, null, 200, "nobody", 0L)).getErrors(), contains(
+                new FieldError<>("name", "must not be null"),
+                new FieldError<>("age", "must be between 0 and 150"),
+                new FieldError<>("email", "is not an \"email\""),
+                new FieldError<>("id", "must be at least 1")));
+        assertThat(validate(classes, "sample.Person", person(classes, "Bartholomew", 1, null, null)).getErrors(), contains(
+                new FieldError<>("name", "length must be between 1 and 10")));
+    }
+
+    @Test
+    public void shouldGenerateValidatorsForNestedTypes() throws Exception {
+        ClassLoader classes = compile(PERSON);
+        Object pet = classes.loadClass("sample.Person$Pet").getConstructor(String.class).newInstance((Object) null);
+
+        assertThat(validate(classes, "sample.Person_Pet", pet).getErrors(), contains(new FieldError<>("species", "must not be null")));
+    }
+
+    @Test
+    public void shouldReportConstraintsWhichDontApplyToTheirField() throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> errors = errors(
+                "package sample;\n" +
+                "import co.unruly.util.constraints.*;\n" +
+                "public class Broken {\n" +
+                "    @Length(max = 3) int count;\n" +
+                "    @NotNull private String hidden;\n" +
+                "}\n");
+
+        assertThat(errors.size(), is(2));
+        assertThat(errors.get(0).getMessage(null), containsString("@Length only applies to CharSequence fields"));
+        assertThat(errors.get(1).getMessage(null), containsString("need a getter"));
+    }
+
+    @Test
+    public void shouldReportBoundsWhichNoValueCanSatisfy() throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> errors = errors(
+                "package sample;\n" +
+                "import co.unruly.util.constraints.*;\n" +
+                "public class Impossible {\n" +
+                "    @Length(min = 5, max = 2) String name;\n" +
+                "    @Range(min = 10, max = 1) int age;\n" +
+                "}\n");
+
+        assertThat(errors.size(), is(2));
+        assertThat(errors.get(0).getMessage(null), containsString("@Length has a min of 5 above its max of 2"));
+        assertThat(errors.get(1).getMessage(null), containsString("@Range has a min of 10 above its max of 1"));
+    }
+
+    private Object person(ClassLoader classes, String name, int age, String email, Long id) throws Exception {
+        return classes.loadClass("sample.Person")
+                .getConstructor(String.class, int.class, String.class, Long.class)
+                .newInstance(name, age, email, id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Validation<Object, FieldError<String>> validate(ClassLoader classes, String type, Object value) throws Exception {
+        Method validate = classes.loadClass(type + "Validator").getMethod("validate", value.getClass());
+        return (Validation<Object, FieldError<String>>) validate.invoke(null, value);
+    }
+
+    private ClassLoader compile(String source) throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        File output = run(source, diagnostics);
+        assertThat(diagnostics.getDiagnostics().toString(), errorsIn(diagnostics), is(empty()));
+        return new URLClassLoader(new URL[] { output.toURI().toURL() }, getClass().getClassLoader());
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> errors(String source) throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        run(source, diagnostics);
+        return errorsIn(diagnostics);
+    }
+
+    private File run(String source, DiagnosticCollector<JavaFileObject> diagnostics) throws Exception {
+        File sources = folder.newFolder();
+        File output = folder.newFolder();
+        String typeName = source.substring(source.indexOf("class ") + 6, source.indexOf(" {"));
+        File file = new File(sources, typeName + ".java");
+        Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                    Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", output.getPath()),
+                    null, files.getJavaFileObjects(file));
+            task.setProcessors(Collections.singletonList(new ValidatorProcessor()));
+            task.call();
+        }
+        return output;
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> errorsIn(DiagnosticCollector<JavaFileObject> diagnostics) {
+        List<Diagnostic<? extends JavaFileObject>> errors = new java.util.ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic);
+            }
+        }
+        return errors;
+    }
+}